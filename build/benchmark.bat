@@ -0,0 +1,14 @@
+@echo off
+title Benchmarking EZ.JWAF Message
+call msg info "[INFO] Benchmarking EZ.JWAF Message" & echo.
+
+set BASEDIR=%~sdp0
+
+pushd %BASEDIR%\..\src
+  call mvn clean package -DskipTests
+  java -jar message-benchmarks\target\benchmarks.jar %*
+popd
+
+call beep.bat
+
+pause
\ No newline at end of file
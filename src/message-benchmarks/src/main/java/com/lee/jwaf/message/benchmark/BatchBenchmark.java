@@ -0,0 +1,99 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ClassName : BatchBenchmark <br>
+ * Description : Twenty {@code Msg.msg(code, args)} calls against one {@code Msg.msgAll(codes, args)}, as a validation
+ * layer resolving the errors of a form, for each branch of Messages.getLocale() <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+
+    private static final int SIZE = 20;
+
+    /** The branch of Messages.getLocale(). */
+    @Param({"CONTEXT", "PROPERTY", "FALLBACK"})
+    private LocaleStrategy strategy;
+
+    private final String[] codes = new String[SIZE];
+    private final Object[][] args = new Object[SIZE][];
+
+    /**
+     * Description : prepare the locale branch and the codes, load the bundles before measuring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        strategy.apply(new Locale("zh", "CN"));
+        Msg.setBaseNames("bench0", "bench1", "bench2", "bench3", "bench4", "bench5", "bench6", "bench");
+        for (int i = 0; i < SIZE; i++) {
+            codes[i] = i % 2 == 0 ? "bench.plain" : "bench.noargs";
+            args[i] = i % 2 == 0 ? new Object[] {"field" + i, i} : null;
+        }
+        Msg.msgAll(codes, args);
+    }
+
+    /**
+     * @return one message per call
+     */
+    @Benchmark
+    public String[] msg() {
+        final String[] result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = Msg.msg(codes[i], args[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @return all the messages by one call
+     */
+    @Benchmark
+    public String[] msgAll() {
+        return Msg.msgAll(codes, args);
+    }
+}
@@ -0,0 +1,115 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.lee.jwaf.message.NoSuchMessageException;
+
+/**
+ * ClassName : ContentionBenchmark <br>
+ * Description : Mixed hits and misses of {@code Msg.msg(code, args)} across eight bundles with 1, 8 and 64 threads,
+ * the throughput should grow with the threads as lookups never lock <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+    private final Object[] plainArgs = {"jimmy", 42};
+
+    /**
+     * Description : configure the bundles and load them before measuring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        System.getProperties().remove(LocaleStrategy.KEY_LANGUAGE);
+        System.getProperties().remove(LocaleStrategy.KEY_COUNTRY);
+        Locale.setDefault(new Locale("zh", "CN"));
+        Msg.setBaseNames("bench0", "bench1", "bench2", "bench3", "bench4", "bench5", "bench6", "bench");
+        Msg.msg("bench.noargs");
+    }
+
+    private void mixed(Blackhole hole) {
+        hole.consume(Msg.msg("bench3.code7", plainArgs));
+        try {
+            hole.consume(Msg.msg("bench.missing", plainArgs));
+        } catch (NoSuchMessageException ex) {
+            hole.consume(ex);
+        }
+    }
+
+    /**
+     * Description : one hit and one miss by 1 thread <br>
+     *
+     * @param hole the blackhole
+     */
+    @Benchmark
+    @Threads(1)
+    public void threads1(Blackhole hole) {
+        mixed(hole);
+    }
+
+    /**
+     * Description : one hit and one miss by 8 threads <br>
+     *
+     * @param hole the blackhole
+     */
+    @Benchmark
+    @Threads(8)
+    public void threads8(Blackhole hole) {
+        mixed(hole);
+    }
+
+    /**
+     * Description : one hit and one miss by 64 threads <br>
+     *
+     * @param hole the blackhole
+     */
+    @Benchmark
+    @Threads(64)
+    public void threads64(Blackhole hole) {
+        mixed(hole);
+    }
+}
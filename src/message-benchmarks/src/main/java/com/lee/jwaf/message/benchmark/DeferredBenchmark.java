@@ -0,0 +1,92 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ClassName : DeferredBenchmark <br>
+ * Description : An exception message built eagerly by {@code Msg.msg(code, args)} and thrown away, against a lazy
+ * {@code Msg.localized(code, args)} which is never rendered, and one which is rendered <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeferredBenchmark {
+
+    private final Object[] args = {"jimmy", new Date()};
+
+    /**
+     * Description : resolve the locale by the ActionContext, load the bundle before measuring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        LocaleStrategy.CONTEXT.apply(new Locale("zh", "CN"));
+        Msg.setBaseNames("bench");
+        Msg.msg("bench.msg", args);
+    }
+
+    /**
+     * @return the message formated at once
+     */
+    @Benchmark
+    public Object eager() {
+        return Msg.msg("bench.msg", args);
+    }
+
+    /**
+     * @return the lazy message, never formated
+     */
+    @Benchmark
+    public Object deferred() {
+        return Msg.localized("bench.msg", args);
+    }
+
+    /**
+     * @return the lazy message formated when it's read
+     */
+    @Benchmark
+    public Object rendered() {
+        return Msg.localized("bench.msg", args).toString();
+    }
+}
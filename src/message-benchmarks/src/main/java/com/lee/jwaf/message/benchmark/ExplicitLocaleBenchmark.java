@@ -0,0 +1,142 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lee.jwaf.message.MessageAccessor;
+import com.lee.jwaf.message.NoSuchMessageException;
+
+/**
+ * ClassName : ExplicitLocaleBenchmark <br>
+ * Description : {@code Msg.msg(baseName, code, args, locale)} and
+ * {@code Msg.msg(baseName, code, args, defaultMessage, locale)}, hit and miss, with and without arguments, and the
+ * same lookups through an accessor bound by {@code Msg.bundle(baseName, locale)} <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExplicitLocaleBenchmark {
+
+    private final Locale locale = new Locale("zh", "CN");
+    private final Object[] plainArgs = {"jimmy", 42};
+    private final Object[] typedArgs = {"jimmy", new Date()};
+    private MessageAccessor accessor;
+
+    /**
+     * Description : load the bundle before measuring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        Msg.msg("bench", "bench.noargs", null, locale);
+        accessor = Msg.bundle("bench", locale);
+    }
+
+    /**
+     * @return hit without arguments
+     */
+    @Benchmark
+    public String msg4HitNoArgs() {
+        return Msg.msg("bench", "bench.noargs", null, locale);
+    }
+
+    /**
+     * @return hit with plain {n} arguments
+     */
+    @Benchmark
+    public String msg4HitPlainArgs() {
+        return Msg.msg("bench", "bench.plain", plainArgs, locale);
+    }
+
+    /**
+     * @return hit with a typed sub-format argument
+     */
+    @Benchmark
+    public String msg4HitTypedArgs() {
+        return Msg.msg("bench", "bench.msg", typedArgs, locale);
+    }
+
+    /**
+     * @return the miss exception
+     */
+    @Benchmark
+    public Object msg4Miss() {
+        try {
+            return Msg.msg("bench", "bench.missing", null, locale);
+        } catch (NoSuchMessageException ex) {
+            return ex;
+        }
+    }
+
+    /**
+     * @return hit, the default message is not used
+     */
+    @Benchmark
+    public String msg5Hit() {
+        return Msg.msg("bench", "bench.plain", plainArgs, "default {0}", locale);
+    }
+
+    /**
+     * @return the formated default message
+     */
+    @Benchmark
+    public String msg5Default() {
+        return Msg.msg("bench", "bench.missing", plainArgs, "default {0}", locale);
+    }
+
+    /**
+     * @return hit without arguments through the bound accessor
+     */
+    @Benchmark
+    public String accessorHitNoArgs() {
+        return accessor.msg("bench.noargs");
+    }
+
+    /**
+     * @return hit with plain {n} arguments through the bound accessor
+     */
+    @Benchmark
+    public String accessorHitPlainArgs() {
+        return accessor.msg("bench.plain", plainArgs);
+    }
+}
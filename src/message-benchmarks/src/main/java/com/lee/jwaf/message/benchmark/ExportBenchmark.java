@@ -0,0 +1,130 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lee.jwaf.message.MessageAccessor;
+import com.lee.jwaf.message.MessageWriter;
+
+/**
+ * ClassName : ExportBenchmark <br>
+ * Description : An export of {@value #ROWS} rows into a discarding writer, {@code Msg.msg(code, args)} and a string per
+ * row against a {@link MessageWriter} formating into its reused chunk, the time and allocation are per row <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExportBenchmark {
+
+    /** Rows per invocation. */
+    private static final int ROWS = 10000;
+
+    private final Object[] args = {"jimmy", "42"};
+    private final Writer out = new DiscardingWriter();
+    private MessageAccessor accessor;
+
+    /**
+     * Description : load the bundle before measuring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        accessor = Msg.bundle("bench", new Locale("zh", "CN"));
+    }
+
+    /**
+     * @return the writer
+     * @throws IOException never
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Writer stringPerRow() throws IOException {
+        for (int i = 0; i < ROWS; i++) {
+            out.write(accessor.msg("bench.plain", args));
+            out.write('\n');
+        }
+        return out;
+    }
+
+    /**
+     * @return the number of rows
+     * @throws IOException never
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long streamed() throws IOException {
+        final MessageWriter writer = accessor.writer(out);
+        final long rows = writer.render(IntStream.range(0, ROWS).boxed(), i -> "bench.plain", i -> args, "\n");
+        writer.flush();
+        return rows;
+    }
+
+    /**
+     * ClassName : DiscardingWriter <br>
+     * Description : Writer dropping everything, so only the rendering is measured <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    private static final class DiscardingWriter extends Writer {
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+        }
+
+        @Override
+        public void write(String str) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ClassName : FanOutBenchmark <br>
+ * Description : One message for {@value #LOCALES} locales, a loop of {@code Msg.msg(baseName, code, args, locale)}
+ * against {@code Msg.msgForLocales(baseName, code, args, locales)} on the common fork-join pool, with a typed
+ * sub-format so each format costs a {@link java.text.MessageFormat} clone <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FanOutBenchmark {
+
+    /** Number of locales. */
+    private static final int LOCALES = 32;
+
+    private final Object[] args = {"jimmy", new Date()};
+    private List<Locale> locales;
+
+    /**
+     * Description : load the bundles of all the locales before measuring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        locales = Arrays.asList(Locale.getAvailableLocales()).subList(0, LOCALES);
+        loop();
+    }
+
+    /**
+     * @return the messages
+     */
+    @Benchmark
+    public Map<Locale, String> loop() {
+        final Map<Locale, String> result = new LinkedHashMap<>();
+        for (Locale locale : locales) {
+            result.put(locale, Msg.msg("bench", "bench.msg", args, locale));
+        }
+        return result;
+    }
+
+    /**
+     * @return the messages
+     */
+    @Benchmark
+    public Map<Locale, String> fanOut() {
+        return Msg.msgForLocales("bench", "bench.msg", args, locales);
+    }
+}
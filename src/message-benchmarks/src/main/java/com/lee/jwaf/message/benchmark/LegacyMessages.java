@@ -0,0 +1,93 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import com.lee.jwaf.message.NoSuchMessageException;
+import com.lee.util.ObjectUtils;
+import com.lee.util.StringUtils;
+
+/**
+ * ClassName : LegacyMessages <br>
+ * Description : Copy of the resolution path of Messages before the (baseName, locale) registry, nested
+ * {@link HashMap} lookups by {@code locale.toLanguageTag()} and {@link MessageFormat#format(String, Object...)} on each
+ * call, kept only as the baseline of the benchmarks <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class LegacyMessages {
+
+    /** Map&lt;baseName, Map&lt;locale.tolanguage(), ResourceBundle&gt;&gt;. */
+    private final Map<String, Map<String, ResourceBundle>> resources = new HashMap<>();
+
+    private void createBundleIfNessary(String baseName, Locale locale) {
+        if (ObjectUtils.isEmpty(locale) || StringUtils.isEmpty(baseName)) {
+            throw new NullPointerException(
+                "illegal argument for createBundleIfNessary, baseName, locale should not be null");
+        }
+        if (!resources.containsKey(baseName) || !resources.get(baseName).containsKey(locale.toLanguageTag())) {
+            synchronized (this) {
+                if (!resources.containsKey(baseName)) {
+                    resources.put(baseName, new HashMap<>());
+                }
+                if (!resources.get(baseName).containsKey(locale.toLanguageTag())) {
+                    resources.get(baseName).put(locale.toLanguageTag(),
+                        ResourceBundle.getBundle(baseName + "-messages", locale));
+                }
+            }
+        }
+    }
+
+    /**
+     * Description : get message from bundles, the same as the former Messages.msg(baseName, code, args, locale) <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName the bundle base name
+     * @param code     the code in the bundle
+     * @param args     the arguments
+     * @param locale   the locale
+     * @return the formated message
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public String msg(String baseName, String code, Object[] args, Locale locale) throws NoSuchMessageException {
+        if (ObjectUtils.isEmpty(locale) || StringUtils.isEmpty(baseName)
+            || StringUtils.isEmpty(code)) {
+            throw new NullPointerException(
+                "illegal argument for msg, code, baseName, defaultMessage, locale should not be null");
+        }
+        createBundleIfNessary(baseName, locale);
+        if (!resources.get(baseName).get(locale.toLanguageTag()).containsKey(code)) {
+            throw new NoSuchMessageException(code);
+        } else {
+            if (ObjectUtils.isEmpty(args)) {
+                return resources.get(baseName).get(locale.toLanguageTag()).getString(code);
+            } else {
+                return MessageFormat.format(resources.get(baseName).get(locale.toLanguageTag()).getString(code), args);
+            }
+        }
+    }
+}
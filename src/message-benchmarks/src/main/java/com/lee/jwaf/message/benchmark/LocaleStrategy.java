@@ -0,0 +1,72 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import java.util.Locale;
+
+import com.lee.jwaf.context.ActionContext;
+
+/**
+ * ClassName : LocaleStrategy <br>
+ * Description : The three branches of Messages.getLocale(), prepared on the calling thread <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+enum LocaleStrategy {
+    /** Locale from com.lee.jwaf.context.ActionContext. */
+    CONTEXT,
+    /** Locale from the system properties. */
+    PROPERTY,
+    /** Locale from {@code Locale.getDefault()}. */
+    FALLBACK;
+
+    /** Same as Messages.CNS_KEY_LANGUAGE. */
+    static final String KEY_LANGUAGE = "application.locale.language";
+    /** Same as Messages.CNS_KEY_COUNTRY. */
+    static final String KEY_COUNTRY = "application.locale.country";
+
+    /**
+     * Description : make Messages.getLocale() resolve the locale by this branch on the current thread <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locale the locale to resolve
+     */
+    void apply(Locale locale) {
+        ActionContext.setContext(null);
+        System.getProperties().remove(KEY_LANGUAGE);
+        System.getProperties().remove(KEY_COUNTRY);
+        switch (this) {
+            case CONTEXT:
+                final ActionContext ctx = new ActionContext();
+                ctx.setLocale(locale);
+                ActionContext.setContext(ctx);
+                break;
+            case PROPERTY:
+                System.setProperty(KEY_LANGUAGE, locale.getLanguage());
+                System.setProperty(KEY_COUNTRY, locale.getCountry());
+                break;
+            default:
+                Locale.setDefault(locale);
+                break;
+        }
+    }
+}
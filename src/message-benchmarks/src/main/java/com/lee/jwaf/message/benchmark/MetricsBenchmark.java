@@ -0,0 +1,115 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lee.jwaf.message.NoSuchMessageException;
+
+/**
+ * ClassName : MetricsBenchmark <br>
+ * Description : Hits and misses of {@code Msg.msg(baseName, code, args, locale)} with the metrics enabled and
+ * disabled, on one and on eight threads sharing the same counters <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    /** Whether the metrics are counted. */
+    @Param({"false", "true"})
+    private boolean enabled;
+
+    private final Locale locale = new Locale("zh", "CN");
+    private final Object[] args = {"jimmy", 42};
+
+    /**
+     * Description : switch the metrics, load the bundle before measuring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        Msg.getMetrics().setEnabled(enabled);
+        Msg.msg("bench", "bench.plain", args, locale);
+    }
+
+    /**
+     * Description : switch the metrics off <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @TearDown
+    public void tearDown() {
+        Msg.getMetrics().setEnabled(false);
+    }
+
+    /**
+     * @return hit with plain {n} arguments
+     */
+    @Benchmark
+    public String hit() {
+        return Msg.msg("bench", "bench.plain", args, locale);
+    }
+
+    /**
+     * @return hit with plain {n} arguments on eight threads
+     */
+    @Benchmark
+    @Threads(8)
+    public String hitContended() {
+        return Msg.msg("bench", "bench.plain", args, locale);
+    }
+
+    /**
+     * @return the miss exception
+     */
+    @Benchmark
+    public Object miss() {
+        try {
+            return Msg.msg("bench", "bench.missing", null, locale);
+        } catch (NoSuchMessageException ex) {
+            return ex;
+        }
+    }
+}
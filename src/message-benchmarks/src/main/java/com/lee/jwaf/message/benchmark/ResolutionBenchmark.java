@@ -0,0 +1,94 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ClassName : ResolutionBenchmark <br>
+ * Description : Compare {@code Msg.msg(baseName, code, args, locale)} with the former nested map resolution path in
+ * {@link LegacyMessages} <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionBenchmark {
+
+    /** The code to resolve. */
+    @Param({"bench.noargs", "bench.plain", "bench.msg"})
+    private String code;
+
+    private final LegacyMessages legacy = new LegacyMessages();
+    private final Locale locale = new Locale("zh", "CN");
+    private Object[] args;
+
+    /**
+     * Description : prepare the arguments and load the bundles on both paths <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        args = "bench.noargs".equals(code) ? null : new Object[] {"jimmy", new Date()};
+        if ("bench.plain".equals(code)) {
+            args[1] = 42;
+        }
+        legacy.msg("bench", code, args, locale);
+        Msg.msg("bench", code, args, locale);
+    }
+
+    /**
+     * @return the message from the former resolution path
+     */
+    @Benchmark
+    public String legacy() {
+        return legacy.msg("bench", code, args, locale);
+    }
+
+    /**
+     * @return the message from the current resolution path
+     */
+    @Benchmark
+    public String current() {
+        return Msg.msg("bench", code, args, locale);
+    }
+}
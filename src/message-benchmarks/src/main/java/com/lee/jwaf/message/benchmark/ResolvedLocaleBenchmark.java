@@ -0,0 +1,115 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message.benchmark;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lee.jwaf.message.NoSuchMessageException;
+
+/**
+ * ClassName : ResolvedLocaleBenchmark <br>
+ * Description : {@code Msg.msg(code)}, {@code Msg.msg(code, args)} and {@code Msg.msg(baseName, code, args)}, which
+ * resolve the locale by each branch of Messages.getLocale(), against one or eight configured bundles; the codes live
+ * in the last bundle <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolvedLocaleBenchmark {
+
+    /** The branch of Messages.getLocale(). */
+    @Param({"CONTEXT", "PROPERTY", "FALLBACK"})
+    private LocaleStrategy strategy;
+
+    /** The configured base names. */
+    @Param({"bench", "bench0,bench1,bench2,bench3,bench4,bench5,bench6,bench"})
+    private String baseNames;
+
+    private final Object[] plainArgs = {"jimmy", 42};
+
+    /**
+     * Description : prepare the locale branch and the base names, load the bundles before measuring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    @Setup
+    public void setup() {
+        strategy.apply(new Locale("zh", "CN"));
+        Msg.setBaseNames(baseNames.split(","));
+        Msg.msg("bench.noargs");
+    }
+
+    /**
+     * @return hit without arguments
+     */
+    @Benchmark
+    public String msg1Hit() {
+        return Msg.msg("bench.noargs");
+    }
+
+    /**
+     * @return hit with plain {n} arguments
+     */
+    @Benchmark
+    public String msg2Hit() {
+        return Msg.msg("bench.plain", plainArgs);
+    }
+
+    /**
+     * @return the miss exception
+     */
+    @Benchmark
+    public Object msg2Miss() {
+        try {
+            return Msg.msg("bench.missing", plainArgs);
+        } catch (NoSuchMessageException ex) {
+            return ex;
+        }
+    }
+
+    /**
+     * @return hit with plain {n} arguments in a given bundle
+     */
+    @Benchmark
+    public String msg3Hit() {
+        return Msg.msg("bench", "bench.plain", plainArgs);
+    }
+}
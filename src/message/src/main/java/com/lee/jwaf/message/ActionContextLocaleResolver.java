@@ -0,0 +1,84 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Locale;
+
+/**
+ * ClassName : ActionContextLocaleResolver <br>
+ * Description : Resolve the locale by com.lee.jwaf.context.ActionContext.getContext().getLocale() <br>
+ * The classes and methods are looked up only once, each {@link #resolve()} invokes two cached
+ * {@link MethodHandle}s. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class ActionContextLocaleResolver implements LocaleResolver {
+
+    /** ActionContext.getContext(), typed as ()Object. */
+    private final MethodHandle getContext;
+    /** ActionContext.getLocale(), typed as (Object)Locale. */
+    private final MethodHandle getLocale;
+
+    private ActionContextLocaleResolver(MethodHandle getContext, MethodHandle getLocale) {
+        this.getContext = getContext;
+        this.getLocale = getLocale;
+    }
+
+    /**
+     * Description : create the resolver if there is a servlet environment and the ActionContext is available <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the resolver, or null if the ActionContext can not be used
+     */
+    static LocaleResolver create() {
+        try {
+            Class.forName("javax.servlet.http.HttpServletResponse");
+            final Class<?> context = Class.forName("com.lee.jwaf.context.ActionContext");
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final MethodHandle getContext = lookup.findStatic(context, "getContext", MethodType.methodType(context));
+            final MethodHandle getLocale = lookup.findVirtual(context, "getLocale",
+                MethodType.methodType(Locale.class));
+            return new ActionContextLocaleResolver(getContext.asType(MethodType.methodType(Object.class)),
+                getLocale.asType(MethodType.methodType(Locale.class, Object.class)));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    @Override
+    public Locale resolve() {
+        try {
+            final Object context = (Object) getContext.invokeExact();
+            return context == null ? null : (Locale) getLocale.invokeExact(context);
+            // CSOFF: IllegalCatch
+        } catch (Throwable ex) {
+            // CSON: IllegalCatch
+            if (ex instanceof Error) {
+                throw (Error) ex;
+            }
+            return null;
+        }
+    }
+}
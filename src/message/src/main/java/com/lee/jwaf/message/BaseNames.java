@@ -0,0 +1,137 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * ClassName : BaseNames <br>
+ * Description : Immutable snapshot of the parsed value of {@link Messages#CNS_KEY_BASE_NAME} <br>
+ * The names keep the declared order, blanks are trimmed and duplicates are dropped, so bundles are always searched in
+ * the same order. The merged {@link MessageIndex} of each locale is kept with the snapshot, so it's dropped together
+ * with the names it was built from; the least recently used indexes are evicted past the cache capacity. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class BaseNames {
+
+    /** Snapshot of an absent property. */
+    static final BaseNames EMPTY = new BaseNames(null, new String[0]);
+
+    /** The raw property value. */
+    private final String value;
+    /** The parsed names in declared order. */
+    private final String[] names;
+    /** Map&lt;locale, MessageIndex&gt; of these names, bounded like the bundles. */
+    private final ClockCache<Locale, MessageIndex> indexes = new ClockCache<>(Messages::getCacheCapacity);
+
+    private BaseNames(String value, String[] names) {
+        this.value = value;
+        this.names = names;
+    }
+
+    /**
+     * Description : parse a comma separated property value <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param value the property value, may be null
+     * @return the snapshot
+     */
+    static BaseNames parse(String value) {
+        if (value == null) {
+            return EMPTY;
+        }
+        final Set<String> names = new LinkedHashSet<>();
+        for (String name : value.split(",")) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        return new BaseNames(value, names.toArray(new String[names.size()]));
+    }
+
+    /**
+     * Description : copy of this snapshot without any index, to be published after bundles are reloaded <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the new snapshot
+     */
+    BaseNames renew() {
+        return value == null ? EMPTY : new BaseNames(value, names);
+    }
+
+    /**
+     * Description : check whether this snapshot was parsed from the given value <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param current the current property value
+     * @return true if it's still valid
+     */
+    boolean isFor(String current) {
+        return value == null ? current == null : value.equals(current);
+    }
+
+    /**
+     * @return the names in declared order, shared, must not be modified
+     */
+    String[] getNames() {
+        return names;
+    }
+
+    /**
+     * Description : get the merged index of a locale <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locale the locale
+     * @return the index, or null if it's not built yet
+     */
+    MessageIndex getIndex(Locale locale) {
+        return indexes.get(locale);
+    }
+
+    /**
+     * Description : keep the merged index of a locale, the first one wins if two threads built it <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locale the locale
+     * @param index  the index
+     * @return the kept index
+     */
+    MessageIndex putIndex(Locale locale, MessageIndex index) {
+        return indexes.putIfAbsent(locale, index);
+    }
+
+    /**
+     * Description : evict indexes until they fit the cache capacity <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    void sweep() {
+        indexes.sweep();
+    }
+}
@@ -0,0 +1,87 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.Locale;
+
+/**
+ * ClassName : BundleKey <br>
+ * Description : Composite (baseName, locale) key of a loaded {@link MessageBundle}, the hash is computed once <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class BundleKey {
+
+    /** The bundle base name. */
+    private final String baseName;
+    /** The locale. */
+    private final Locale locale;
+    /** Cached hash. */
+    private final int hash;
+
+    /**
+     * Default constructor.
+     *
+     * @param baseName the bundle base name
+     * @param locale   the locale
+     */
+    BundleKey(String baseName, Locale locale) {
+        this.baseName = baseName;
+        this.locale = locale;
+        this.hash = 31 * baseName.hashCode() + locale.hashCode();
+    }
+
+    /**
+     * @return the bundle base name
+     */
+    String getBaseName() {
+        return baseName;
+    }
+
+    /**
+     * @return the locale
+     */
+    Locale getLocale() {
+        return locale;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BundleKey)) {
+            return false;
+        }
+        final BundleKey other = (BundleKey) obj;
+        return hash == other.hash && baseName.equals(other.baseName) && locale.equals(other.locale);
+    }
+
+    @Override
+    public String toString() {
+        return baseName + "-messages[" + locale.toLanguageTag() + "]";
+    }
+}
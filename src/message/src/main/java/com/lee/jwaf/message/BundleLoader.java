@@ -0,0 +1,99 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * ClassName : BundleLoader <br>
+ * Description : Load the {@code <baseName>-messages*.properties} files of a bundle, bypassing the cache of
+ * {@link ResourceBundle} and of URL connections <br>
+ * The loaded codes are copied into a {@link MessageStore} and the {@link ResourceBundle} is dropped, so it must not be
+ * kept in the cache of {@link ResourceBundle}, and a reload must read the current files. The cache of
+ * {@link ResourceBundle} is keyed by (name, locale, loader) only, a bundle cached by a plain
+ * {@link ResourceBundle#getBundle(String, Locale)} would be returned even with another control; loading through a new
+ * loader delegating to the given one never meets such entry. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class BundleLoader {
+
+    /** Control which bypasses the caches, the candidate locales and fallback are the standard ones. */
+    static final ResourceBundle.Control CONTROL = new NoCacheControl();
+
+    private BundleLoader() {
+    }
+
+    /**
+     * Description : load a bundle from the current files <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param bundleName the bundle name
+     * @param locale     the locale
+     * @param loader     the class loader of the bundle files
+     * @return the resource bundle
+     * @throws MissingResourceException if no resource bundle can be found
+     */
+    static ResourceBundle load(String bundleName, Locale locale, ClassLoader loader) throws MissingResourceException {
+        return ResourceBundle.getBundle(bundleName, locale, new DelegatingLoader(loader), CONTROL);
+    }
+
+    /**
+     * ClassName : DelegatingLoader <br>
+     * Description : Plain delegating loader, a new instance per load keeps the {@link ResourceBundle} cache out <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    private static final class DelegatingLoader extends ClassLoader {
+
+        DelegatingLoader(ClassLoader parent) {
+            super(parent);
+        }
+    }
+
+    /**
+     * ClassName : NoCacheControl <br>
+     * Description : Load bundles without {@link ResourceBundle} and URL connection caches, in the default formats so a
+     * class bundle is still found before a properties one <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    private static final class NoCacheControl extends ResourceBundle.Control {
+
+        @Override
+        public long getTimeToLive(String baseName, Locale locale) {
+            return TTL_DONT_CACHE;
+        }
+
+        @Override
+        public ResourceBundle newBundle(String baseName, Locale locale, String format, ClassLoader loader,
+                                        boolean reload) throws IllegalAccessException, InstantiationException,
+                IOException {
+            return super.newBundle(baseName, locale, format, loader, true);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ClassName : BundleWatcher <br>
+ * Description : Watch the directories of the loaded {@code <baseName>-messages*.properties} files and of their
+ * compiled catalogs, and report the changed base names from a background daemon thread <br>
+ * Only bundles loaded from the file system (e.g. exploded classes directories) can be watched, bundles inside jars are
+ * ignored. Events are coalesced for {@link #SETTLE_MILLIS} so a file being written is reported once, after the write.
+ * A listener failure doesn't stop the watching, it's reported to the uncaught exception handler of the thread. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class BundleWatcher implements Closeable {
+
+    /** Suffix of the bundle base names. */
+    private static final String BUNDLE_SUFFIX = "-messages";
+    /** Extensions of the bundle files, properties and compiled catalogs. */
+    private static final String[] FORMATS = {"properties", MessageCatalog.EXTENSION};
+    /** Delay to let the file writes finish before reporting. */
+    private static final long SETTLE_MILLIS = 200L;
+
+    /** The watch service. */
+    private final WatchService service;
+    /** Called with each changed base name. */
+    private final Consumer<String> listener;
+    /** Map&lt;watched directory, Map&lt;bundle file name without package, base name&gt;&gt;. */
+    private final ConcurrentMap<Path, ConcurrentMap<String, String>> directories = new ConcurrentHashMap<>();
+    /** The watching thread. */
+    private final Thread thread;
+
+    /**
+     * Default constructor, the watching thread is started at once.
+     *
+     * @param listener called with each changed base name, on the watching thread
+     * @throws IOException if the watch service can not be created
+     */
+    BundleWatcher(Consumer<String> listener) throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        this.listener = listener;
+        this.thread = new Thread(this::watch, "jwaf-message-reloader");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Description : watch the directories of the property files which may back the given bundle <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key    the key of the loaded bundle
+     * @param loader the class loader the bundle is loaded by
+     */
+    void watch(BundleKey key, ClassLoader loader) {
+        final String bundleName = key.getBaseName() + BUNDLE_SUFFIX;
+        // a base name like com.x.errors is in the file com/x/errors-messages.properties
+        final int packageEnd = Math.max(bundleName.lastIndexOf('.'), bundleName.lastIndexOf('/'));
+        final String fileName = bundleName.substring(packageEnd + 1);
+        for (Locale candidate : LocaleChain.of(key.getLocale()).searchOrder()) {
+            for (String format : FORMATS) {
+                final String resource = BundleLoader.CONTROL.toResourceName(
+                    BundleLoader.CONTROL.toBundleName(bundleName, candidate), format);
+                final URL url = loader == null ? ClassLoader.getSystemResource(resource) : loader.getResource(resource);
+                if (url != null && "file".equals(url.getProtocol())) {
+                    register(url, fileName, key.getBaseName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Description : watch the directory of a bundle file, and remember which base name its files belong to <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param url      the bundle file
+     * @param fileName the bundle name without its package, the files are named like it
+     * @param baseName the base name of the bundle
+     */
+    private void register(URL url, String fileName, String baseName) {
+        try {
+            final Path directory = Paths.get(url.toURI()).getParent();
+            if (directory == null) {
+                return;
+            }
+            final ConcurrentMap<String, String> bundles = new ConcurrentHashMap<>();
+            final ConcurrentMap<String, String> previous = directories.putIfAbsent(directory, bundles);
+            if (previous == null) {
+                bundles.put(fileName, baseName);
+                directory.register(service, ENTRY_CREATE, ENTRY_MODIFY);
+            } else {
+                previous.putIfAbsent(fileName, baseName);
+            }
+        } catch (URISyntaxException | IOException | ClosedWatchServiceException ex) {
+            // can not be watched, the bundle just won't be reloaded
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                TimeUnit.MILLISECONDS.sleep(SETTLE_MILLIS);
+                final Set<String> changed = new HashSet<>();
+                while (key != null) {
+                    collect(directories.get((Path) key.watchable()), key.pollEvents(), changed);
+                    key.reset();
+                    key = service.poll();
+                }
+                for (String baseName : changed) {
+                    report(baseName);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            // closed
+        }
+    }
+
+    /**
+     * Description : report a changed base name, a failed reload is reported to the uncaught exception handler of the
+     * thread and the watching goes on <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName the changed base name
+     */
+    private void report(String baseName) {
+        try {
+            listener.accept(baseName);
+        } catch (RuntimeException ex) {
+            // e.g. a corrupted catalog, the loaded bundles are kept and the next change is reloaded again
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+        }
+    }
+
+    /**
+     * Description : collect the base names of the changed bundle files of a directory <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param bundles Map&lt;bundle file name without package, base name&gt; of the directory
+     * @param events  the events of the directory
+     * @param changed receives the changed base names
+     */
+    private static void collect(Map<String, String> bundles, List<WatchEvent<?>> events, Set<String> changed) {
+        if (bundles == null) {
+            return;
+        }
+        for (WatchEvent<?> event : events) {
+            if (!(event.context() instanceof Path)) {
+                continue;
+            }
+            final String file = event.context().toString();
+            if (!file.endsWith(".properties") && !file.endsWith("." + MessageCatalog.EXTENSION)) {
+                continue;
+            }
+            for (Map.Entry<String, String> bundle : bundles.entrySet()) {
+                final String fileName = bundle.getKey();
+                // the bundle name is followed by its locale or its extension
+                if (file.startsWith(fileName) && file.length() > fileName.length()
+                    && (file.charAt(fileName.length()) == '_' || file.charAt(fileName.length()) == '.')) {
+                    changed.add(bundle.getValue());
+                }
+            }
+        }
+    }
+}
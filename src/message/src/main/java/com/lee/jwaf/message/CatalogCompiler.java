@@ -0,0 +1,216 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IllformedLocaleException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ClassName : CatalogCompiler <br>
+ * Description : Build time compiler of the {@code <baseName>-messages*.properties} files into binary catalogs <br>
+ * Each properties file gets a {@code .catalog} file of the same name, holding its codes and the codes of its parent
+ * bundles, so a catalog is complete by itself. The catalogs are found next to the properties files on the class path
+ * when {@link Messages#setCatalogs(boolean)} is enabled. Typically run after process-resources, e.g.
+ * {@code java -cp ... com.lee.jwaf.message.CatalogCompiler target/classes}. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class CatalogCompiler {
+
+    /** Suffix of the bundle base names. */
+    static final String BUNDLE_SUFFIX = "-messages";
+    /** Extension of the source files. */
+    static final String PROPERTIES = ".properties";
+    /** A script subtag, e.g. Hans. */
+    private static final Pattern SCRIPT = Pattern.compile("[A-Z][a-z]{3}");
+
+    private CatalogCompiler() {
+    }
+
+    /**
+     * Description : compile the properties files of a directory <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param args the source directory, and optionally the target directory, the source one by default
+     * @throws IOException if a file can not be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("usage: CatalogCompiler <source directory> [target directory]");
+            System.exit(2);
+        }
+        final Path source = Paths.get(args[0]);
+        final List<Path> catalogs = compile(source, args.length > 1 ? Paths.get(args[1]) : source);
+        System.out.println("compiled " + catalogs.size() + " message catalogs into " + args[args.length - 1]);
+    }
+
+    /**
+     * Description : compile all the {@code <baseName>-messages*.properties} files under the source directory, the
+     * catalogs keep the relative path of their properties file. A catalog is written to a temporary file and moved in
+     * place, so a mapped catalog is never overwritten. A file whose name is not the one of a bundle, e.g.
+     * {@code app-messages-old.properties}, is skipped with a warning. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param source the source directory
+     * @param target the target directory
+     * @return the written catalogs
+     * @throws IOException if a file can not be read or written
+     */
+    public static List<Path> compile(Path source, Path target) throws IOException {
+        final List<Path> files;
+        try (Stream<Path> walk = Files.walk(source)) {
+            files = walk.filter(file -> isBundleFile(file.getFileName().toString())).sorted()
+                .collect(Collectors.toList());
+        }
+        final List<Path> catalogs = new ArrayList<>();
+        for (Path file : files) {
+            final BundleKey key = toKey(source, file);
+            if (key == null) {
+                continue;
+            }
+            final String bundleName = key.getBaseName() + BUNDLE_SUFFIX;
+            final Locale locale = key.getLocale();
+            final String name = BundleLoader.CONTROL.toBundleName(bundleName, locale);
+            final Path catalog = target.resolve(name + "." + MessageCatalog.EXTENSION);
+            Files.createDirectories(catalog.toAbsolutePath().getParent());
+            final Path temporary = Files.createTempFile(catalog.toAbsolutePath().getParent(), ".", ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temporary)) {
+                    MessageCatalog.write(flatten(source, bundleName, locale), out);
+                }
+                Files.move(temporary, catalog, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            catalogs.add(catalog);
+        }
+        return Collections.unmodifiableList(catalogs);
+    }
+
+    /**
+     * @param fileName the name of a file
+     * @return true for a {@code <baseName>-messages*.properties} file
+     */
+    static boolean isBundleFile(String fileName) {
+        return fileName.endsWith(PROPERTIES) && fileName.contains(BUNDLE_SUFFIX);
+    }
+
+    /**
+     * Description : parse the base name and the locale of a {@code <baseName>-messages*.properties} file, a file
+     * {@link java.util.ResourceBundle} would never load, e.g. {@code app-messages-old.properties}, is reported to the
+     * standard error and skipped <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param source the source directory
+     * @param file   the file in the source directory
+     * @return the key, its base name is the relative path of the file up to the {@code -messages} suffix, or null if
+     * the file name is not the one of a bundle
+     */
+    static BundleKey toKey(Path source, Path file) {
+        final String relative = source.relativize(file).toString().replace('\\', '/');
+        final String name = relative.substring(0, relative.length() - PROPERTIES.length());
+        final int index = name.lastIndexOf(BUNDLE_SUFFIX) + BUNDLE_SUFFIX.length();
+        final Locale locale = toLocale(name.substring(index));
+        if (locale == null || !BundleLoader.CONTROL.toBundleName(name.substring(0, index), locale).equals(name)) {
+            System.err.println("skipped " + file + ", not the file name of a bundle");
+            return null;
+        }
+        return new BundleKey(name.substring(0, index - BUNDLE_SUFFIX.length()), locale);
+    }
+
+    /**
+     * Description : parse the locale part of a bundle name, "" or "_language[_script][_country[_variant]]" as
+     * written by {@link java.util.ResourceBundle.Control#toBundleName(String, Locale)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param suffix the locale part
+     * @return the locale, null if it's not one
+     */
+    private static Locale toLocale(String suffix) {
+        if (suffix.isEmpty()) {
+            return Locale.ROOT;
+        }
+        if (suffix.charAt(0) != '_') {
+            return null;
+        }
+        final String[] parts = suffix.substring(1).split("_", 4);
+        if (parts.length < 2 || !SCRIPT.matcher(parts[1]).matches()) {
+            final String[] legacy = suffix.substring(1).split("_", 3);
+            return new Locale(legacy[0], legacy.length > 1 ? legacy[1] : "", legacy.length > 2 ? legacy[2] : "");
+        }
+        try {
+            return new Locale.Builder().setLanguage(parts[0]).setScript(parts[1])
+                .setRegion(parts.length > 2 ? parts[2] : "").setVariant(parts.length > 3 ? parts[3] : "").build();
+        } catch (IllformedLocaleException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Description : read the codes of a bundle and of its parents, the same way {@link java.util.ResourceBundle}
+     * chains them <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param source     the source directory
+     * @param bundleName the bundle name
+     * @param locale     the locale of the bundle
+     * @return the codes and patterns
+     * @throws IOException if a file can not be read
+     */
+    private static Map<String, String> flatten(Path source, String bundleName, Locale locale) throws IOException {
+        final List<Locale> chain = new ArrayList<>(BundleLoader.CONTROL.getCandidateLocales(bundleName, locale));
+        Collections.reverse(chain);
+        final Map<String, String> messages = new TreeMap<>();
+        for (Locale candidate : chain) {
+            final Path file = source.resolve(BundleLoader.CONTROL.toBundleName(bundleName, candidate) + PROPERTIES);
+            if (Files.isRegularFile(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    final PropertyResourceBundle bundle = new PropertyResourceBundle(in);
+                    for (String code : bundle.keySet()) {
+                        messages.put(code, bundle.getString(code));
+                    }
+                }
+            }
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,289 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ClassName : CatalogValidator <br>
+ * Description : Validation of the {@code <baseName>-messages*.properties} files, at build time or at startup <br>
+ * Every pattern of every file is compiled, one task per file, so an invalid pattern is found before a request thread
+ * formats it. Each file is read alone, without its parents, so a code which a locale doesn't translate is reported
+ * instead of silently falling back to the default bundle. See {@link ValidationReport} for what is checked. At build
+ * time it's run on the resources of the module, e.g. by the {@code validate-messages} profile of the pom, or
+ * {@code java -cp ... com.lee.jwaf.message.CatalogValidator [-strict] target/classes}; at startup by
+ * {@link Messages#validate(Collection)}. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class CatalogValidator {
+
+    /** Option of {@link #main(String[])} to fail on missing and extra codes too. */
+    private static final String STRICT = "-strict";
+
+    private CatalogValidator() {
+    }
+
+    /**
+     * Description : validate the properties files of a directory, the exit status is 1 if there is an error <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param args {@code -strict} to fail on missing and extra codes too, and the directory
+     * @throws IOException if a file can not be read
+     */
+    public static void main(String[] args) throws IOException {
+        final boolean strict = args.length == 2 && STRICT.equals(args[0]);
+        if (args.length != (strict ? 2 : 1)) {
+            System.err.println("usage: CatalogValidator [" + STRICT + "] <directory>");
+            System.exit(2);
+        }
+        final ValidationReport report = validate(ForkJoinPool.commonPool(), Paths.get(args[args.length - 1]));
+        report.getErrors().forEach(error -> System.err.println("ERROR " + error));
+        report.getMissing().forEach((bundle, codes) -> System.err.println("WARN " + bundle + " misses " + codes));
+        report.getExtra().forEach((bundle, codes) -> System.err.println("WARN " + bundle + " has extra " + codes));
+        System.out.println(report);
+        if (!report.isValid() || strict && !(report.getMissing().isEmpty() && report.getExtra().isEmpty())) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Description : validate all the {@code <baseName>-messages*.properties} files under a directory, a file whose
+     * name is not the one of a bundle is skipped with a warning, see {@link CatalogCompiler#toKey(Path, Path)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param pool      the pool which compiles the files
+     * @param directory the directory
+     * @return the report
+     * @throws IOException if a file can not be read
+     */
+    public static ValidationReport validate(ForkJoinPool pool, Path directory) throws IOException {
+        final long start = System.nanoTime();
+        final List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.filter(file -> CatalogCompiler.isBundleFile(file.getFileName().toString())).sorted()
+                .collect(Collectors.toList());
+        }
+        final Map<BundleKey, Map<String, String>> files = new LinkedHashMap<>();
+        for (Path path : paths) {
+            final BundleKey key = CatalogCompiler.toKey(directory, path);
+            if (key == null) {
+                continue;
+            }
+            try (InputStream in = Files.newInputStream(path)) {
+                files.put(key, read(in));
+            }
+        }
+        return check(pool, files, new ArrayList<>(), start);
+    }
+
+    /**
+     * Description : validate the properties files of base names on the class path, those of the given locales and of
+     * their parents and fallback locales <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param pool      the pool which compiles the files
+     * @param loader    the class loader of the files
+     * @param baseNames the base names
+     * @param locales   the locales
+     * @return the report, a base name without any file or a file which can not be read is an error
+     */
+    static ValidationReport validate(ForkJoinPool pool, ClassLoader loader, String[] baseNames,
+                                     Collection<Locale> locales) {
+        final long start = System.nanoTime();
+        final Map<BundleKey, Map<String, String>> files = new LinkedHashMap<>();
+        final List<String> errors = new ArrayList<>();
+        for (String baseName : baseNames) {
+            final String bundleName = baseName + CatalogCompiler.BUNDLE_SUFFIX;
+            boolean found = false;
+            for (Locale locale : locales) {
+                for (Locale candidate : LocaleChain.of(locale).searchOrder()) {
+                    final BundleKey key = new BundleKey(baseName, candidate);
+                    final String name = BundleLoader.CONTROL.toBundleName(bundleName, candidate);
+                    final URL url = loader.getResource(name + CatalogCompiler.PROPERTIES);
+                    if (url == null) {
+                        continue;
+                    }
+                    found = true;
+                    if (!files.containsKey(key)) {
+                        try (InputStream in = url.openStream()) {
+                            files.put(key, read(in));
+                        } catch (IOException ex) {
+                            errors.add(name + ": " + ex);
+                        }
+                    }
+                }
+            }
+            if (!found) {
+                errors.add(bundleName + ": no properties file on the class path");
+            }
+        }
+        return check(pool, files, errors, start);
+    }
+
+    /**
+     * Description : compile the patterns of the files in parallel, then compare the files of each base name <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param pool   the pool which compiles the files
+     * @param files  Map&lt;(baseName, locale), codes and patterns of the file alone&gt;
+     * @param errors the errors found so far
+     * @param start  the start time
+     * @return the report
+     */
+    private static ValidationReport check(ForkJoinPool pool, Map<BundleKey, Map<String, String>> files,
+                                          List<String> errors, long start) {
+        final LongAdder templates = new LongAdder();
+        final Collection<String> invalid = new ConcurrentLinkedQueue<>();
+        final Map<BundleKey, Map<String, Integer>> arguments = new ConcurrentHashMap<>();
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (Map.Entry<BundleKey, Map<String, String>> file : files.entrySet()) {
+            tasks.add(pool.submit(() -> {
+                final BundleKey key = file.getKey();
+                final Map<String, Integer> counts = new HashMap<>();
+                for (Map.Entry<String, String> message : file.getValue().entrySet()) {
+                    try {
+                        counts.put(message.getKey(),
+                            MessageTemplate.compile(message.getValue(), key.getLocale()).getArgumentCount());
+                        templates.increment();
+                    } catch (IllegalArgumentException ex) {
+                        invalid.add(nameOf(key) + " " + message.getKey() + ": " + ex.getMessage());
+                    }
+                }
+                arguments.put(key, counts);
+            }));
+        }
+        tasks.forEach(ForkJoinTask::join);
+        errors.addAll(invalid);
+
+        final Map<String, Set<String>> missing = new TreeMap<>();
+        final Map<String, Set<String>> extra = new TreeMap<>();
+        final Map<String, Map<Locale, Map<String, String>>> bases = new TreeMap<>();
+        for (Map.Entry<BundleKey, Map<String, String>> file : files.entrySet()) {
+            bases.computeIfAbsent(file.getKey().getBaseName(), name -> new LinkedHashMap<>())
+                .put(file.getKey().getLocale(), file.getValue());
+        }
+        for (Map.Entry<String, Map<Locale, Map<String, String>>> base : bases.entrySet()) {
+            final String baseName = base.getKey();
+            final Map<Locale, Map<String, String>> locales = base.getValue();
+            compareArguments(baseName, locales.keySet(), arguments, errors);
+            final Map<String, String> root = locales.get(Locale.ROOT);
+            if (root == null) {
+                continue;
+            }
+            for (Map.Entry<Locale, Map<String, String>> file : locales.entrySet()) {
+                final Locale locale = file.getKey();
+                if (Locale.ROOT.equals(locale)) {
+                    continue;
+                }
+                // a code the file lacks is still translated if a parent locale other than the root has it
+                final Set<String> absent = new TreeSet<>(root.keySet());
+                for (Locale candidate : BundleLoader.CONTROL.getCandidateLocales("", locale)) {
+                    final Map<String, String> translated = Locale.ROOT.equals(candidate) ? null
+                        : locales.get(candidate);
+                    if (translated != null) {
+                        absent.removeAll(translated.keySet());
+                    }
+                }
+                final Set<String> unknown = new TreeSet<>(file.getValue().keySet());
+                unknown.removeAll(root.keySet());
+                final String name = nameOf(new BundleKey(baseName, locale));
+                if (!absent.isEmpty()) {
+                    missing.put(name, Collections.unmodifiableSet(absent));
+                }
+                if (!unknown.isEmpty()) {
+                    extra.put(name, Collections.unmodifiableSet(unknown));
+                }
+            }
+        }
+        Collections.sort(errors);
+        return new ValidationReport(files.size(), templates.sum(), System.nanoTime() - start, errors, missing, extra);
+    }
+
+    /**
+     * Description : report the codes of a base name whose patterns take different numbers of arguments <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName  the base name
+     * @param locales   the locales of its files
+     * @param arguments Map&lt;(baseName, locale), Map&lt;code, argument count&gt;&gt;
+     * @param errors    receives the mismatches
+     */
+    private static void compareArguments(String baseName, Collection<Locale> locales,
+                                         Map<BundleKey, Map<String, Integer>> arguments, List<String> errors) {
+        final Map<String, Map<String, Integer>> byCode = new TreeMap<>();
+        for (Locale locale : locales) {
+            final BundleKey key = new BundleKey(baseName, locale);
+            for (Map.Entry<String, Integer> count : arguments.get(key).entrySet()) {
+                byCode.computeIfAbsent(count.getKey(), code -> new TreeMap<>()).put(nameOf(key), count.getValue());
+            }
+        }
+        for (Map.Entry<String, Map<String, Integer>> code : byCode.entrySet()) {
+            if (new HashSet<>(code.getValue().values()).size() > 1) {
+                errors.add(baseName + CatalogCompiler.BUNDLE_SUFFIX + " " + code.getKey()
+                    + ": different numbers of arguments " + code.getValue());
+            }
+        }
+    }
+
+    private static String nameOf(BundleKey key) {
+        return BundleLoader.CONTROL.toBundleName(key.getBaseName() + CatalogCompiler.BUNDLE_SUFFIX, key.getLocale());
+    }
+
+    private static Map<String, String> read(InputStream in) throws IOException {
+        final PropertyResourceBundle bundle = new PropertyResourceBundle(in);
+        final Map<String, String> messages = new HashMap<>();
+        for (String code : bundle.keySet()) {
+            messages.put(code, bundle.getString(code));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,125 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+/**
+ * ClassName : ChainedMessageStore <br>
+ * Description : {@link MessageStore} which searches other stores in order, without copying them <br>
+ * Used to index several {@link MessageCatalog}s, whose codes should stay out of the heap; the slots of the n-th store
+ * follow the slots of the stores before it. A miss costs one lookup per store. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class ChainedMessageStore extends MessageStore {
+
+    /** The stores in search order. */
+    private final MessageStore[] stores;
+    /** First slot of each store. */
+    private final int[] offsets;
+    /** Number of distinct codes. */
+    private final int size;
+
+    /**
+     * Default constructor.
+     *
+     * @param stores the stores in search order
+     */
+    ChainedMessageStore(MessageStore... stores) {
+        super(totalCapacity(stores));
+        this.stores = stores.clone();
+        this.offsets = new int[stores.length];
+        int offset = 0;
+        int distinct = 0;
+        for (int i = 0; i < stores.length; i++) {
+            offsets[i] = offset;
+            for (int slot = 0; slot < stores[i].capacity(); slot++) {
+                final String code = stores[i].code(slot);
+                if (code != null && indexOf(code) == offset + slot) {
+                    distinct++;
+                }
+            }
+            offset += stores[i].capacity();
+        }
+        this.size = distinct;
+    }
+
+    private static int totalCapacity(MessageStore[] stores) {
+        long total = 0;
+        for (MessageStore store : stores) {
+            total += store.capacity();
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many slots to chain: " + total);
+        }
+        return (int) total;
+    }
+
+    @Override
+    int indexOf(String code) {
+        for (int i = 0; i < stores.length; i++) {
+            final int slot = stores[i].indexOf(code);
+            if (slot >= 0) {
+                return offsets[i] + slot;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    String code(int slot) {
+        final int i = storeOf(slot);
+        final String code = stores[i].code(slot - offsets[i]);
+        // a code shadowed by an earlier store is not visible through the chain
+        return code != null && indexOf(code) == slot ? code : null;
+    }
+
+    @Override
+    String pattern(int slot) {
+        final int i = storeOf(slot);
+        return stores[i].pattern(slot - offsets[i]);
+    }
+
+    @Override
+    MessageTemplate compiled(int slot) {
+        final int i = storeOf(slot);
+        return stores[i].compiled(slot - offsets[i]);
+    }
+
+    @Override
+    void keep(int slot, MessageTemplate template) {
+        // kept by the store of the slot, so the template is shared with it
+        final int i = storeOf(slot);
+        stores[i].keep(slot - offsets[i], template);
+    }
+
+    private int storeOf(int slot) {
+        int i = offsets.length - 1;
+        while (offsets[i] > slot) {
+            i--;
+        }
+        return i;
+    }
+}
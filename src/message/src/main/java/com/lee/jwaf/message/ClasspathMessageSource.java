@@ -0,0 +1,61 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * ClassName : ClasspathMessageSource <br>
+ * Description : The default {@link MessageSource}, the {@code <baseName>-messages*.properties} files on the class path
+ * <br>
+ * {@link Messages} doesn't call {@link #load(String, Locale)} for it, it loads the files straight into a
+ * {@link MessageStore}, or maps their catalogs; the map is for callers wrapping this source. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class ClasspathMessageSource implements MessageSource {
+
+    /** The instance. */
+    static final ClasspathMessageSource INSTANCE = new ClasspathMessageSource();
+
+    private ClasspathMessageSource() {
+    }
+
+    @Override
+    public Map<String, String> load(String baseName, Locale locale) throws MissingResourceException {
+        final ResourceBundle bundle = BundleLoader.load(baseName + "-messages", locale,
+            Messages.class.getClassLoader());
+        final Map<String, String> messages = new HashMap<>();
+        for (String code : bundle.keySet()) {
+            messages.put(code, bundle.getString(code));
+        }
+        return messages;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageSource[classpath]";
+    }
+}
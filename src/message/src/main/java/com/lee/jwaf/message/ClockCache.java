@@ -0,0 +1,289 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * ClassName : ClockCache <br>
+ * Description : Size bounded concurrent cache evicting by the CLOCK (second chance) approximation of LRU <br>
+ * A hit only sets the referenced flag of its entry if it's not set yet, so hits don't write to shared memory in the
+ * steady state and never lock. When the cache grows over its capacity, the thread which inserted sweeps the ring of
+ * keys: a referenced entry gets its flag cleared and a second chance, the first entry not referenced since the last
+ * sweep is evicted. Only one thread sweeps at a time, the others just go on unless the cache is too far over its
+ * capacity. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author jimmyblylee@126.com
+ */
+final class ClockCache<K, V> {
+
+    /** Map&lt;key, entry&gt;. */
+    private final ConcurrentMap<K, Node<V>> map = new ConcurrentHashMap<>();
+    /** The keys in insertion order, the hand of the clock is the head. */
+    private final ConcurrentLinkedQueue<K> ring = new ConcurrentLinkedQueue<>();
+    /** The keys in the ring, a removed key stays in it until the sweep reaches it so it's never offered twice. */
+    private final Set<K> ringed = ConcurrentHashMap.newKeySet();
+    /** Held by the sweeping thread. */
+    private final ReentrantLock sweeping = new ReentrantLock();
+    /** The maximum number of entries, read at each sweep. */
+    private final IntSupplier capacity;
+
+    /**
+     * Default constructor.
+     *
+     * @param capacity the maximum number of entries, read at each sweep so it can change
+     */
+    ClockCache(IntSupplier capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Description : get a value and mark it as used <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key the key
+     * @return the value, or null if there is none
+     */
+    V get(K key) {
+        final Node<V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * Description : get a value, or create it if there is none, only the creation of the same key waits <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key    the key
+     * @param loader creates the value, an exception leaves no entry
+     * @return the value
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        final V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        final boolean[] created = new boolean[1];
+        final Node<V> node = map.computeIfAbsent(key, k -> {
+            created[0] = true;
+            return new Node<>(loader.apply(k));
+        });
+        if (created[0]) {
+            enterRing(key);
+            sweep();
+        }
+        return node.value;
+    }
+
+    /**
+     * Description : keep a value, the first one wins if two threads created it <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the kept value
+     */
+    V putIfAbsent(K key, V value) {
+        final Node<V> previous = map.putIfAbsent(key, new Node<>(value));
+        if (previous != null) {
+            return previous.value;
+        }
+        enterRing(key);
+        sweep();
+        return value;
+    }
+
+    /**
+     * Description : replace the value of a key still in the cache, nothing is done if it was evicted <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key   the key
+     * @param value the new value
+     */
+    void replace(K key, V value) {
+        map.computeIfPresent(key, (k, node) -> new Node<>(value));
+    }
+
+    /**
+     * Description : drop the entry of a key, its place in the ring is kept for a new entry of the key or dropped by
+     * the next sweep <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key the key
+     */
+    void remove(K key) {
+        map.remove(key);
+    }
+
+    /**
+     * @return the keys, a weakly consistent view
+     */
+    Set<K> keySet() {
+        return map.keySet();
+    }
+
+    /**
+     * @return the number of entries
+     */
+    int size() {
+        return map.size();
+    }
+
+    /**
+     * Description : drop all the entries <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    void clear() {
+        sweeping.lock();
+        try {
+            map.clear();
+            ring.clear();
+            ringed.clear();
+        } finally {
+            sweeping.unlock();
+        }
+    }
+
+    /**
+     * Description : evict entries until the cache fits its capacity, unless another thread is doing it and the cache
+     * is not over its capacity by more than {@link #slack(int)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    void sweep() {
+        final int max = capacity.getAsInt();
+        final int size = map.size();
+        if (size <= max) {
+            return;
+        }
+        // past the slack the inserting threads wait for the sweep, so the size stays bounded under any churn
+        if (size > max + slack(max)) {
+            sweeping.lock();
+        } else if (!sweeping.tryLock()) {
+            return;
+        }
+        try {
+            // two turns of the clock evict something unless the entries are used faster than they are swept
+            int steps = 2 * map.size() + 1;
+            while (map.size() > capacity.getAsInt() && steps-- > 0) {
+                final K key = ring.poll();
+                if (key == null) {
+                    break;
+                }
+                final Node<V> node = map.get(key);
+                if (node == null) {
+                    leaveRing(key);
+                } else if (node.referenced) {
+                    node.referenced = false;
+                    ring.offer(key);
+                } else if (map.remove(key, node)) {
+                    leaveRing(key);
+                } else {
+                    // replaced meanwhile, it's new again
+                    ring.offer(key);
+                }
+            }
+        } finally {
+            sweeping.unlock();
+        }
+    }
+
+    /**
+     * Description : put a key in the ring unless it's still there since it was removed <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key the key
+     */
+    private void enterRing(K key) {
+        if (ringed.add(key)) {
+            ring.offer(key);
+        }
+    }
+
+    /**
+     * Description : forget a key polled out of the ring by the sweep, and offer it again if it was put back
+     * meanwhile by a thread which saw it still in the ring <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key the key
+     */
+    private void leaveRing(K key) {
+        ringed.remove(key);
+        if (map.containsKey(key)) {
+            enterRing(key);
+        }
+    }
+
+    /**
+     * @return the number of keys in the ring, for the tests
+     */
+    int ringSize() {
+        return ring.size();
+    }
+
+    /**
+     * @param max the capacity
+     * @return how many entries may be over the capacity while another thread sweeps
+     */
+    static int slack(int max) {
+        return (max >> 3) + 16;
+    }
+
+    /**
+     * ClassName : Node <br>
+     * Description : A value and its referenced flag <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @param <V> the value type
+     * @author jimmyblylee@126.com
+     */
+    private static final class Node<V> {
+
+        private final V value;
+        /** Set by a hit, cleared by the sweep; a lost update only delays or hastens an eviction. */
+        private volatile boolean referenced;
+
+        Node(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * ClassName : CompactMessageStore <br>
+ * Description : {@link MessageStore} on two parallel open-addressing arrays <br>
+ * Codes are interned, so the same code of all the locales is one string, and looked up by linear probing in a table
+ * kept at most half full; a lookup is one probe in most cases and there is no entry object per code. The codes of the
+ * whole parent chain of a {@link ResourceBundle} are flattened when the store is built. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class CompactMessageStore extends MessageStore {
+
+    /** Codes by slot, null for an empty slot. */
+    private final String[] codes;
+    /** Patterns by slot, a pattern is replaced by its {@link MessageTemplate} once compiled. */
+    private final Object[] patterns;
+    /** Mask of the table size. */
+    private final int mask;
+    /** Number of codes. */
+    private final int size;
+
+    private CompactMessageStore(String[] codes, Object[] patterns, int size) {
+        super(codes.length);
+        this.codes = codes;
+        this.patterns = patterns;
+        this.mask = codes.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Description : build a store of all the codes visible through a resource bundle, its parents included <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param bundle the resource bundle
+     * @return the store
+     */
+    static CompactMessageStore of(ResourceBundle bundle) {
+        final Builder builder = new Builder(bundle.keySet().size());
+        for (String code : bundle.keySet()) {
+            builder.putIfAbsent(code, bundle.getString(code));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Description : build a store of the given codes <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param messages Map&lt;code, pattern&gt;
+     * @return the store
+     */
+    static CompactMessageStore of(Map<String, String> messages) {
+        final Builder builder = new Builder(messages.size());
+        for (Map.Entry<String, String> message : messages.entrySet()) {
+            builder.putIfAbsent(message.getKey(), message.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Description : merge stores, the first store which has a code wins <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param stores the stores in search order
+     * @return the merged store
+     */
+    static CompactMessageStore merge(MessageStore... stores) {
+        int size = 0;
+        for (MessageStore store : stores) {
+            size += store.capacity() / 2;
+        }
+        final Builder builder = new Builder(size);
+        for (MessageStore store : stores) {
+            for (int slot = 0; slot < store.capacity(); slot++) {
+                final String code = store.code(slot);
+                if (code != null) {
+                    builder.putIfAbsent(code, store.pattern(slot));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    int indexOf(String code) {
+        final int hash = code.hashCode();
+        int slot = spread(hash) & mask;
+        String current = codes[slot];
+        while (current != null) {
+            if (current == code || current.hashCode() == hash && current.equals(code)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+            current = codes[slot];
+        }
+        return -1;
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    String code(int slot) {
+        return codes[slot];
+    }
+
+    @Override
+    String pattern(int slot) {
+        final Object pattern = patterns[slot];
+        return pattern instanceof MessageTemplate ? ((MessageTemplate) pattern).getPattern() : (String) pattern;
+    }
+
+    @Override
+    MessageTemplate compiled(int slot) {
+        final Object pattern = patterns[slot];
+        return pattern instanceof MessageTemplate ? (MessageTemplate) pattern : null;
+    }
+
+    @Override
+    void keep(int slot, MessageTemplate template) {
+        patterns[slot] = template;
+    }
+
+    /**
+     * ClassName : Builder <br>
+     * Description : Fill the table, grows it to keep it at most half full <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    private static final class Builder {
+
+        private String[] codes;
+        private Object[] patterns;
+        private int size;
+
+        Builder(int expected) {
+            int capacity = 2;
+            while (capacity < expected * 2) {
+                capacity <<= 1;
+            }
+            codes = new String[capacity];
+            patterns = new Object[capacity];
+        }
+
+        void putIfAbsent(String code, String pattern) {
+            if ((size + 1) * 2 > codes.length) {
+                final String[] oldCodes = codes;
+                final Object[] oldPatterns = patterns;
+                codes = new String[oldCodes.length * 2];
+                patterns = new Object[oldCodes.length * 2];
+                for (int i = 0; i < oldCodes.length; i++) {
+                    if (oldCodes[i] != null) {
+                        insert(oldCodes[i], (String) oldPatterns[i]);
+                    }
+                }
+            }
+            if (insert(code.intern(), pattern)) {
+                size++;
+            }
+        }
+
+        private boolean insert(String code, String pattern) {
+            final int mask = codes.length - 1;
+            int slot = spread(code.hashCode()) & mask;
+            while (codes[slot] != null) {
+                if (codes[slot].equals(code)) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            codes[slot] = code;
+            patterns[slot] = pattern;
+            return true;
+        }
+
+        CompactMessageStore build() {
+            return new CompactMessageStore(codes, patterns, size);
+        }
+    }
+}
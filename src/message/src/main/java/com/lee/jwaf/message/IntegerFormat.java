@@ -0,0 +1,140 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * ClassName : IntegerFormat <br>
+ * Description : Writes integral numbers digit by digit the way {@link NumberFormat#getInstance(Locale)} formats them
+ * <br>
+ * {@link java.text.MessageFormat} formats a number argument without sub-format by a new {@link NumberFormat} of the
+ * locale, which costs a clone of the format and a temporary string for each argument. The digits, the grouping and the
+ * minus sign of the locale are read once here; a locale whose format is more than that (a prefix, a suffix, a minimum
+ * number of digits...) keeps formating by {@link NumberFormat}. Instances are immutable and shared by locale. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class IntegerFormat {
+
+    /** The largest power of ten of a long. */
+    private static final long MAX_POWER = 1000000000000000000L;
+
+    /** Map&lt;locale, format&gt;, bounded like the bundles. */
+    private static final ClockCache<Locale, IntegerFormat> FORMATS = new ClockCache<>(Messages::getCacheCapacity);
+
+    /** The locale. */
+    private final Locale locale;
+    /** True if the digits are written here, false if they are formated by {@link NumberFormat}. */
+    private final boolean direct;
+    /** The zero digit. */
+    private final char zero;
+    /** The grouping separator. */
+    private final char separator;
+    /** The number of digits in a group, 0 if there is no grouping. */
+    private final int groupingSize;
+    /** Written before a negative number. */
+    private final String negativePrefix;
+
+    private IntegerFormat(Locale locale) {
+        this.locale = locale;
+        final NumberFormat format = NumberFormat.getInstance(locale);
+        final DecimalFormat decimal = format instanceof DecimalFormat ? (DecimalFormat) format : null;
+        this.direct = decimal != null && decimal.getPositivePrefix().isEmpty()
+            && decimal.getPositiveSuffix().isEmpty() && decimal.getNegativeSuffix().isEmpty()
+            && decimal.getMultiplier() == 1 && !decimal.isDecimalSeparatorAlwaysShown()
+            && decimal.getMinimumIntegerDigits() <= 1 && decimal.getMaximumIntegerDigits() >= 19;
+        if (direct) {
+            final DecimalFormatSymbols symbols = decimal.getDecimalFormatSymbols();
+            this.zero = symbols.getZeroDigit();
+            this.separator = symbols.getGroupingSeparator();
+            this.groupingSize = decimal.isGroupingUsed() ? decimal.getGroupingSize() : 0;
+            this.negativePrefix = decimal.getNegativePrefix();
+        } else {
+            this.zero = '0';
+            this.separator = ',';
+            this.groupingSize = 0;
+            this.negativePrefix = "-";
+        }
+    }
+
+    /**
+     * Description : get the format of a locale, read at its first use <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locale the locale
+     * @return the format
+     */
+    static IntegerFormat of(Locale locale) {
+        return FORMATS.computeIfAbsent(locale, IntegerFormat::new);
+    }
+
+    /**
+     * Description : check whether a value is formated as a long by {@link NumberFormat} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param value the value
+     * @return true for an Integer, a Long, a Short or a Byte
+     */
+    static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Description : append a value, same result as {@code NumberFormat.getInstance(locale).format(value)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param value  the value
+     * @throws IOException if the target fails
+     */
+    void appendTo(Appendable target, long value) throws IOException {
+        if (!direct) {
+            target.append(NumberFormat.getInstance(locale).format(value));
+            return;
+        }
+        if (value < 0) {
+            target.append(negativePrefix);
+        }
+        // digits are taken from the non positive value, so Long.MIN_VALUE has no overflow
+        final long negative = value < 0 ? value : -value;
+        long power = 1;
+        int digits = 1;
+        while (power < MAX_POWER && negative <= -power * 10) {
+            power *= 10;
+            digits++;
+        }
+        for (int position = digits - 1; position >= 0; position--) {
+            target.append((char) (zero - negative / power % 10));
+            if (groupingSize > 0 && position > 0 && position % groupingSize == 0) {
+                target.append(separator);
+            }
+            power /= 10;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+/**
+ * ClassName : JdbcMessageSource <br>
+ * Description : {@link MessageSource} on a database table, with a read-through cache and incremental refresh <br>
+ * The table, {@value #DEFAULT_TABLE} by default, has one row per message:
+ * <pre>
+ * CREATE TABLE jwaf_message (
+ *     base_name VARCHAR(128)  NOT NULL,
+ *     locale    VARCHAR(64)   NOT NULL, -- as in the properties file names, e.g. zh_CN, '' for the root
+ *     code      VARCHAR(256)  NOT NULL,
+ *     pattern   VARCHAR(4000),          -- null once the message is deleted
+ *     version   BIGINT        NOT NULL, -- increased by each change, e.g. from a sequence
+ *     PRIMARY KEY (base_name, locale, code)
+ * );
+ * CREATE INDEX jwaf_message_version ON jwaf_message (version);
+ * </pre>
+ * The first load of a (baseName, locale) bundle reads the rows of all the locales it may fall back to in one query,
+ * and keeps them per (baseName, locale) in memory, absent locales included; other bundles falling back to the same
+ * locales don't query again. The parent chain and the fallback follow the rules of {@link java.util.ResourceBundle}.
+ * {@link #refresh()}, to be called periodically, reads the rows of a version greater than the last one seen, applies
+ * them to the kept rows and reports the changed base names, so their bundles are loaded again from memory. A deleted
+ * message must be kept as a row with a null pattern and a new version until all the sources have refreshed. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public class JdbcMessageSource implements MessageSource {
+
+    /** Default table name. */
+    public static final String DEFAULT_TABLE = "jwaf_message";
+
+    /** A plain or schema qualified SQL name, the table name is put into the statements as it is. */
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    /** The database. */
+    private final DataSource dataSource;
+    /** The table. */
+    private final String table;
+    /** Map&lt;(baseName, locale), Map&lt;code, pattern&gt;&gt;, the maps are replaced, never modified. */
+    private final ConcurrentMap<BundleKey, Map<String, String>> rows = new ConcurrentHashMap<>();
+    /** Map&lt;locale column, locale&gt; of the locales read so far. */
+    private final ConcurrentMap<String, Locale> columns = new ConcurrentHashMap<>();
+    /** Guards the queries and the version. */
+    private final Object lock = new Object();
+    /** The greatest version seen, -1 until the first query. */
+    private long version = -1L;
+    /** Called with each changed base name. */
+    private volatile Consumer<String> listener;
+
+    /**
+     * Constructor on the {@value #DEFAULT_TABLE} table.
+     *
+     * @param dataSource the database
+     * @throws NullPointerException if the dataSource is null
+     */
+    public JdbcMessageSource(DataSource dataSource) throws NullPointerException {
+        this(dataSource, DEFAULT_TABLE);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param dataSource the database
+     * @param table      the table, a plain or schema qualified name
+     * @throws NullPointerException     if the dataSource or the table is null
+     * @throws IllegalArgumentException if the table is not a plain SQL name
+     */
+    public JdbcMessageSource(DataSource dataSource, String table)
+            throws NullPointerException, IllegalArgumentException {
+        if (dataSource == null || table == null) {
+            throw new NullPointerException(
+                "illegal argument for JdbcMessageSource, dataSource, table should not be null");
+        }
+        if (!NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException("illegal argument for JdbcMessageSource, not a table name: " + table);
+        }
+        this.dataSource = dataSource;
+        this.table = table;
+    }
+
+    @Override
+    public Map<String, String> load(String baseName, Locale locale) throws MissingResourceException {
+        final LocaleChain chain = LocaleChain.of(locale);
+        fetch(baseName, chain.searchOrder());
+        final List<Locale> located = chain.located(candidate -> !rows(baseName, candidate).isEmpty());
+        if (located.isEmpty()) {
+            throw new MissingResourceException("Can't find bundle for base name " + baseName + ", locale " + locale,
+                baseName + "-messages_" + locale, "");
+        }
+        // the most specific locale wins, so the root goes in first
+        final Map<String, String> messages = new HashMap<>();
+        for (int i = located.size() - 1; i >= 0; i--) {
+            messages.putAll(rows(baseName, located.get(i)));
+        }
+        return messages;
+    }
+
+    @Override
+    public void setListener(Consumer<String> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Description : read the rows changed since the last query, apply them to the kept rows and report the changed
+     * base names to the listener <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the number of changed rows read
+     * @throws IllegalStateException if the database fails
+     */
+    public int refresh() throws IllegalStateException {
+        final Set<String> changed = new LinkedHashSet<>();
+        int count = 0;
+        synchronized (lock) {
+            if (version < 0) {
+                // nothing loaded yet, the first load reads the current rows
+                return 0;
+            }
+            final Map<BundleKey, Map<String, String>> updates = new HashMap<>();
+            // the version moves only once the changes are applied, a failed scan is read again at the next refresh
+            long seen = version;
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT base_name, locale, code, pattern, "
+                     + "version FROM " + table + " WHERE version > ?")) {
+                statement.setLong(1, version);
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        count++;
+                        seen = Math.max(seen, result.getLong(5));
+                        final Locale locale = columns.get(result.getString(2));
+                        final BundleKey key = locale == null ? null : new BundleKey(result.getString(1), locale);
+                        final Map<String, String> kept = key == null ? null : rows.get(key);
+                        if (kept == null) {
+                            // never loaded, the first load reads it
+                            continue;
+                        }
+                        final Map<String, String> updated = updates.computeIfAbsent(key, k -> new HashMap<>(kept));
+                        final String pattern = result.getString(4);
+                        if (pattern == null) {
+                            updated.remove(result.getString(3));
+                        } else {
+                            updated.put(result.getString(3), pattern);
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                throw new IllegalStateException("failed to refresh the messages of " + table, ex);
+            }
+            for (Map.Entry<BundleKey, Map<String, String>> update : updates.entrySet()) {
+                rows.put(update.getKey(), Collections.unmodifiableMap(update.getValue()));
+                changed.add(update.getKey().getBaseName());
+            }
+            version = seen;
+        }
+        final Consumer<String> current = listener;
+        if (current != null) {
+            changed.forEach(current);
+        }
+        return count;
+    }
+
+    /**
+     * Description : read the rows of the locales of a base name not read yet, in one query <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName the base name
+     * @param locales  the locales
+     * @throws MissingResourceException if the database fails
+     */
+    private void fetch(String baseName, List<Locale> locales) throws MissingResourceException {
+        if (isFetched(baseName, locales)) {
+            return;
+        }
+        synchronized (lock) {
+            final List<Locale> missing = new ArrayList<>();
+            for (Locale locale : locales) {
+                if (!rows.containsKey(new BundleKey(baseName, locale))) {
+                    missing.add(locale);
+                }
+            }
+            if (missing.isEmpty()) {
+                return;
+            }
+            final StringBuilder sql = new StringBuilder("SELECT locale, code, pattern FROM ").append(table)
+                .append(" WHERE base_name = ? AND pattern IS NOT NULL AND locale IN (?");
+            for (int i = 1; i < missing.size(); i++) {
+                sql.append(", ?");
+            }
+            sql.append(')');
+            try (Connection connection = dataSource.getConnection()) {
+                if (version < 0) {
+                    // read before the rows, a change in between is read again by the next refresh
+                    version = maxVersion(connection);
+                }
+                final Map<String, Map<String, String>> fetched = new HashMap<>();
+                for (Locale locale : missing) {
+                    fetched.put(toColumn(locale), new HashMap<>());
+                }
+                try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                    statement.setString(1, baseName);
+                    for (int i = 0; i < missing.size(); i++) {
+                        statement.setString(i + 2, toColumn(missing.get(i)));
+                    }
+                    try (ResultSet result = statement.executeQuery()) {
+                        while (result.next()) {
+                            final Map<String, String> messages = fetched.get(result.getString(1));
+                            if (messages != null) {
+                                messages.put(result.getString(2), result.getString(3));
+                            }
+                        }
+                    }
+                }
+                for (Locale locale : missing) {
+                    columns.putIfAbsent(toColumn(locale), locale);
+                    rows.put(new BundleKey(baseName, locale),
+                        Collections.unmodifiableMap(fetched.get(toColumn(locale))));
+                }
+            } catch (SQLException ex) {
+                final MissingResourceException missingResource = new MissingResourceException(
+                    "failed to read the messages of " + baseName + " from " + table, baseName + "-messages", "");
+                missingResource.initCause(ex);
+                throw missingResource;
+            }
+        }
+    }
+
+    private boolean isFetched(String baseName, List<Locale> locales) {
+        for (Locale locale : locales) {
+            if (!rows.containsKey(new BundleKey(baseName, locale))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long maxVersion(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT MAX(version) FROM " + table);
+             ResultSet result = statement.executeQuery()) {
+            return result.next() ? result.getLong(1) : 0L;
+        }
+    }
+
+    private Map<String, String> rows(String baseName, Locale locale) {
+        final Map<String, String> messages = rows.get(new BundleKey(baseName, locale));
+        return messages == null ? Collections.<String, String>emptyMap() : messages;
+    }
+
+    /**
+     * @param locale the locale
+     * @return the value of the locale column, the suffix of the properties file name
+     */
+    private static String toColumn(Locale locale) {
+        final String name = BundleLoader.CONTROL.toBundleName("", locale);
+        return name.startsWith("_") ? name.substring(1) : name;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageSource[jdbc:" + table + "]";
+    }
+}
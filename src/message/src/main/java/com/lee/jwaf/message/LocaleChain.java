@@ -0,0 +1,215 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * ClassName : LocaleChain <br>
+ * Description : Memoized search order of the bundle files of a locale, and resolution of the locale a bundle is
+ * actually loaded for <br>
+ * The candidate locales and the fallback locale of {@link BundleLoader#CONTROL} only depend on the locale and on the
+ * default locale, not on the bundle name, so the chain of each locale is computed once and shared by all bundles; it's
+ * computed again if the default locale changed. Many locales resolve to the same files, e.g. {@code zh_CN},
+ * {@code zh-Hans-CN} and {@code zh-CN-x-app} all end at {@code zh_CN}, and an unknown language ends at the default
+ * locale: {@link #resolve(String, ClassLoader, boolean)} gives the locale of the first file found when this locale
+ * loads exactly the same files, so all of them share one loaded bundle. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class LocaleChain {
+
+    /** Extension of the properties files. */
+    private static final String PROPERTIES = "properties";
+
+    /** Map&lt;locale, chain&gt;, bounded like the bundles. */
+    private static final ClockCache<Locale, LocaleChain> CHAINS = new ClockCache<>(Messages::getCacheCapacity);
+
+    /** The locale. */
+    private final Locale locale;
+    /** The default locale the fallback was taken from. */
+    private final Locale defaultLocale;
+    /** Candidate locales of the locale itself, the root excluded. */
+    private final List<Locale> candidates;
+    /** Candidate locales of the fallback locale, the root excluded, empty if there is no fallback. */
+    private final List<Locale> fallbacks;
+
+    private LocaleChain(Locale locale, Locale defaultLocale) {
+        this.locale = locale;
+        this.defaultLocale = defaultLocale;
+        this.candidates = withoutRoot(BundleLoader.CONTROL.getCandidateLocales("", locale));
+        // a bundle of the root locale itself never falls back
+        final Locale fallback = Locale.ROOT.equals(locale) ? null
+            : BundleLoader.CONTROL.getFallbackLocale("", locale);
+        this.fallbacks = fallback == null ? Collections.<Locale>emptyList()
+            : withoutRoot(BundleLoader.CONTROL.getCandidateLocales("", fallback));
+    }
+
+    /**
+     * Description : get the chain of a locale, computed at its first use <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locale the locale
+     * @return the chain
+     */
+    static LocaleChain of(Locale locale) {
+        final Locale defaultLocale = Locale.getDefault();
+        final LocaleChain chain = CHAINS.get(locale);
+        if (chain != null && chain.defaultLocale.equals(defaultLocale)) {
+            return chain;
+        }
+        final LocaleChain created = new LocaleChain(locale, defaultLocale);
+        if (chain == null) {
+            return CHAINS.putIfAbsent(locale, created);
+        }
+        CHAINS.replace(locale, created);
+        return created;
+    }
+
+    /**
+     * @return the locale
+     */
+    Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Description : get the locales searched for a bundle, the candidates of the locale, then those of the fallback
+     * locale, then the root <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the locales in search order
+     */
+    List<Locale> searchOrder() {
+        final List<Locale> order = new ArrayList<>(candidates.size() + fallbacks.size() + 1);
+        order.addAll(candidates);
+        order.addAll(fallbacks);
+        order.add(Locale.ROOT);
+        return order;
+    }
+
+    /**
+     * Description : find the locales a bundle is made of, by the rules of {@link java.util.ResourceBundle}: the
+     * candidates of the locale which exist, or those of the fallback locale if none exists, then the root if it exists
+     * <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param exists tells whether there is a bundle of a candidate locale, called once per candidate in search order
+     * @return the locales found, the most specific first
+     */
+    List<Locale> located(Predicate<Locale> exists) {
+        final List<Locale> located = new ArrayList<>();
+        for (Locale candidate : candidates) {
+            if (exists.test(candidate)) {
+                located.add(candidate);
+            }
+        }
+        if (located.isEmpty()) {
+            for (Locale candidate : fallbacks) {
+                if (exists.test(candidate)) {
+                    located.add(candidate);
+                }
+            }
+        }
+        if (exists.test(Locale.ROOT)) {
+            located.add(Locale.ROOT);
+        }
+        return located;
+    }
+
+    /**
+     * Description : resolve the locale a bundle is loaded for: the locale of the first file found, if that locale
+     * loads exactly the same files as this one, or this locale otherwise <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param bundleName the bundle name
+     * @param loader     the class loader of the bundle files
+     * @param catalogs   whether a catalog is loaded first when there is one
+     * @return the resolved locale
+     */
+    Locale resolve(String bundleName, ClassLoader loader, boolean catalogs) {
+        final List<Locale> located = new ArrayList<>();
+        final List<String> files = find(bundleName, loader, catalogs, located);
+        if (files.isEmpty() || located.get(0).equals(locale)) {
+            return locale;
+        }
+        final LocaleChain target = of(located.get(0));
+        return target.find(bundleName, loader, catalogs, new ArrayList<>()).equals(files) ? target.locale : locale;
+    }
+
+    /**
+     * Description : find the files a bundle is loaded from, by the same rules as {@link BundleLoader} and
+     * {@link MessageCatalog#find(String, Locale, ClassLoader)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param bundleName the bundle name
+     * @param loader     the class loader of the bundle files
+     * @param catalogs   whether a catalog is loaded first when there is one
+     * @param located    receives the locale of each file found
+     * @return the resource names of the files, in search order
+     */
+    private List<String> find(String bundleName, ClassLoader loader, boolean catalogs, List<Locale> located) {
+        final List<String> files = new ArrayList<>();
+        if (catalogs) {
+            // a catalog holds its parents, the first one found is the whole bundle
+            for (Locale candidate : searchOrder()) {
+                if (exists(bundleName, candidate, MessageCatalog.EXTENSION, loader, files)) {
+                    located.add(candidate);
+                    return files;
+                }
+                // a properties file more specific than any catalog, the bundle is loaded from the properties files
+                if (exists(bundleName, candidate, PROPERTIES, loader, new ArrayList<>())) {
+                    break;
+                }
+            }
+        }
+        located.addAll(located(candidate -> exists(bundleName, candidate, PROPERTIES, loader, files)));
+        return files;
+    }
+
+    private static boolean exists(String bundleName, Locale candidate, String format, ClassLoader loader,
+                                  List<String> files) {
+        final String resource = BundleLoader.CONTROL.toResourceName(
+            BundleLoader.CONTROL.toBundleName(bundleName, candidate), format);
+        final URL url = loader == null ? ClassLoader.getSystemResource(resource) : loader.getResource(resource);
+        return url != null && files.add(resource);
+    }
+
+    private static List<Locale> withoutRoot(List<Locale> locales) {
+        final List<Locale> result = new ArrayList<>(locales.size());
+        for (Locale candidate : locales) {
+            if (!Locale.ROOT.equals(candidate)) {
+                result.add(candidate);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
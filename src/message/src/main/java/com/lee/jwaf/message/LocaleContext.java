@@ -0,0 +1,306 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ClassName : LocaleContext <br>
+ * Description : Snapshot of the request locale, carried explicitly across threads <br>
+ * The locale of {@link Messages#getLocale()} is thread-bound: it comes from com.lee.jwaf.context.ActionContext or
+ * another {@link LocaleResolver}, and is lost once the work moves to another thread, e.g. an executor task or a
+ * {@link java.util.concurrent.CompletableFuture} stage. {@link #capture()} resolves it once on the request thread, and
+ * {@link #open()} binds the snapshot to the running thread, where it wins over the resolver:
+ * <pre>
+ * final LocaleContext context = LocaleContext.capture();
+ * CompletableFuture.supplyAsync(context.wrapSupplier(() -&gt; Msg.msg("order.created", args)), pool);
+ * </pre>
+ * or all the tasks of an executor carry the locale of the thread submitting them:
+ * <pre>
+ * final ExecutorService pool = LocaleContext.propagating(Executors.newFixedThreadPool(8));
+ * </pre>
+ * A binding is a {@link ThreadLocal} value removed when it's closed, so a pooled thread never keeps the locale of a
+ * former task, and a lookup reads it as cheaply as any {@link ThreadLocal}, without reflection. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class LocaleContext {
+
+    /** The locale bound to the running thread, null if none. */
+    private static final ThreadLocal<Locale> CURRENT = new ThreadLocal<>();
+
+    /** The carried locale. */
+    private final Locale locale;
+
+    private LocaleContext(Locale locale) {
+        this.locale = locale;
+    }
+
+    /**
+     * Description : capture the locale of the running thread, as resolved by {@link Messages#getLocale()} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the snapshot
+     */
+    public static LocaleContext capture() {
+        return new LocaleContext(Messages.getLocale());
+    }
+
+    /**
+     * Description : create a snapshot of a given locale <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locale the locale
+     * @return the snapshot
+     * @throws NullPointerException if the locale is null
+     */
+    public static LocaleContext of(Locale locale) throws NullPointerException {
+        if (locale == null) {
+            throw new NullPointerException("illegal argument for of, locale should not be null");
+        }
+        return new LocaleContext(locale);
+    }
+
+    /**
+     * @return the locale bound to the running thread, null if none
+     */
+    static Locale current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the carried locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Description : bind the locale to the running thread until the returned scope is closed, the scopes nest <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the scope, to be closed on the same thread, best in a try-with-resources
+     */
+    public Scope open() {
+        final Locale previous = CURRENT.get();
+        CURRENT.set(locale);
+        return new Scope(previous);
+    }
+
+    /**
+     * Description : wrap a task to run with the locale bound <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            final Scope scope = open();
+            try {
+                task.run();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * Description : wrap a task to run with the locale bound <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param task the task
+     * @param <T>  the result type
+     * @return the wrapped task
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            final Scope scope = open();
+            try {
+                return task.call();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * Description : wrap a supplier to run with the locale bound, e.g. for
+     * {@link java.util.concurrent.CompletableFuture#supplyAsync(Supplier, Executor)}, named apart from
+     * {@link #wrap(Callable)} since a lambda would fit both <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param supplier the supplier
+     * @param <T>      the result type
+     * @return the wrapped supplier
+     */
+    public <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        return () -> {
+            final Scope scope = open();
+            try {
+                return supplier.get();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * Description : wrap a function to run with the locale bound, e.g. for
+     * {@link java.util.concurrent.CompletableFuture#thenApplyAsync(Function)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param function the function
+     * @param <T>      the argument type
+     * @param <R>      the result type
+     * @return the wrapped function
+     */
+    public <T, R> Function<T, R> wrap(Function<T, R> function) {
+        return value -> {
+            final Scope scope = open();
+            try {
+                return function.apply(value);
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * Description : wrap an executor so that each task runs with the locale of the thread which submitted it <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param executor the executor
+     * @return the wrapped executor
+     */
+    public static Executor propagating(Executor executor) {
+        return command -> executor.execute(capture().wrap(command));
+    }
+
+    /**
+     * Description : wrap an executor service so that each task runs with the locale of the thread which submitted it,
+     * the life cycle methods are delegated <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param executor the executor service
+     * @return the wrapped executor service
+     */
+    public static ExecutorService propagating(ExecutorService executor) {
+        return new PropagatingExecutorService(executor);
+    }
+
+    @Override
+    public String toString() {
+        return "LocaleContext[" + locale.toLanguageTag() + "]";
+    }
+
+    /**
+     * ClassName : Scope <br>
+     * Description : A binding of a {@link LocaleContext} to a thread, closing it restores the former one <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    public static final class Scope implements AutoCloseable {
+
+        /** The locale bound before, null if none. */
+        private final Locale previous;
+
+        private Scope(Locale previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                // no entry is left on the thread
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * ClassName : PropagatingExecutorService <br>
+     * Description : Executor service capturing the locale in {@link #execute(Runnable)}, which all the submit and
+     * invoke methods of {@link AbstractExecutorService} call on the submitting thread <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    private static final class PropagatingExecutorService extends AbstractExecutorService {
+
+        /** The executor service doing the work. */
+        private final ExecutorService delegate;
+
+        PropagatingExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(capture().wrap(command));
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
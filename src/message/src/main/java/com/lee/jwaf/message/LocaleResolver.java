@@ -0,0 +1,45 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.Locale;
+
+/**
+ * ClassName : LocaleResolver <br>
+ * Description : Strategy for the step of {@link Messages#getLocale()} after the {@link LocaleContext}, resolve the
+ * locale of the current request <br>
+ * The resolver is called on every message lookup without explicit locale, so it should be as cheap as a
+ * {@link ThreadLocal} read and should never throw. Return null to fall back to the system properties and then the
+ * default locale. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public interface LocaleResolver {
+
+    /**
+     * Description : resolve the locale of the current request <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the locale, or null if it can not be resolved
+     */
+    Locale resolve();
+}
@@ -0,0 +1,172 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+
+/**
+ * ClassName : LocalizedMessage <br>
+ * Description : A message formated only when it's read, for exceptions and logs which are seldom shown <br>
+ * Created by {@link Messages#localized(String, Object[])}, it only keeps the base name, the code, the arguments and
+ * the locale: the locale resolution, the bundle lookup and the format are done by {@link #toString()} or
+ * {@link #render(Locale)}. Without a locale, it's rendered in the locale of the thread which reads it, so give it
+ * one, e.g. {@code LocaleContext.capture().getLocale()}, if it may be read by another thread. The last rendering is
+ * kept and given again for the same locale until bundles are reloaded. The arguments are not copied, they must not be
+ * modified. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class LocalizedMessage {
+
+    /** The bundle base name, null for all the configured base names. */
+    private final String baseName;
+    /** The code. */
+    private final String code;
+    /** The arguments, may be null. */
+    private final Object[] args;
+    /** The locale, null for the locale of the reading thread. */
+    private final Locale locale;
+    /** The last rendering, null before the first one. */
+    private volatile Rendering rendering;
+
+    /**
+     * Default constructor.
+     *
+     * @param baseName the bundle base name, null for all the configured base names
+     * @param code     the code
+     * @param args     the arguments
+     * @param locale   the locale, null for the locale of the reading thread
+     */
+    LocalizedMessage(String baseName, String code, Object[] args, Locale locale) {
+        this.baseName = baseName;
+        this.code = code;
+        this.args = args;
+        this.locale = locale;
+    }
+
+    /**
+     * @return the bundle base name, null for all the configured base names
+     */
+    public String getBaseName() {
+        return baseName;
+    }
+
+    /**
+     * @return the code
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return the arguments, shared, must not be modified
+     */
+    public Object[] getArgs() {
+        return args;
+    }
+
+    /**
+     * @return the locale, null for the locale of the reading thread
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Description : format the message in its locale, or in the locale resolved by {@link Messages} if it has none
+     * <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the formated message
+     * @throws NoSuchMessageException   if there is no such code, the exception carries this message
+     * @throws MissingResourceException if no resource bundle can be found
+     */
+    public String render() throws NoSuchMessageException, MissingResourceException {
+        return render(locale == null ? Messages.getLocale() : locale);
+    }
+
+    /**
+     * Description : format the message in a locale, the same rendering is given again until bundles are reloaded
+     * <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param in the locale
+     * @return the formated message
+     * @throws NullPointerException     if the locale is null
+     * @throws NoSuchMessageException   if there is no such code, the exception carries this message
+     * @throws MissingResourceException if no resource bundle can be found
+     */
+    public String render(Locale in) throws NullPointerException, NoSuchMessageException, MissingResourceException {
+        if (in == null) {
+            throw new NullPointerException("illegal argument for render, locale should not be null");
+        }
+        // read the generation first, a reload in between is seen by the next call
+        final int generation = Msg.getGeneration();
+        final Rendering last = rendering;
+        if (last != null && last.generation == generation && last.locale.equals(in)) {
+            return last.text;
+        }
+        final String text = Msg.render(this, in);
+        rendering = new Rendering(generation, in, text);
+        return text;
+    }
+
+    /**
+     * Description : format the message, see {@link #render()}, the code if it can not be found <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the formated message, never an exception so it can be logged
+     */
+    @Override
+    public String toString() {
+        try {
+            return render();
+        } catch (NoSuchMessageException | MissingResourceException ex) {
+            return code;
+        }
+    }
+
+    /**
+     * ClassName : Rendering <br>
+     * Description : A formated message and what it was formated for <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    private static final class Rendering {
+
+        private final int generation;
+        private final Locale locale;
+        private final String text;
+
+        Rendering(int generation, Locale locale, String text) {
+            this.generation = generation;
+            this.locale = locale;
+            this.text = text;
+        }
+    }
+}
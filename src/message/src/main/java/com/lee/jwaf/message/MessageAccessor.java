@@ -0,0 +1,402 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.MissingResourceException;
+
+import com.lee.util.ObjectUtils;
+import com.lee.util.StringUtils;
+
+/**
+ * ClassName : MessageAccessor <br>
+ * Description : Messages of one locale, bound to the bundle or the configured base names resolved when it's created
+ * <br>
+ * Created by {@link Messages#forLocale(Locale)} or {@link Messages#bundle(String, Locale)}. A lookup is one probe in
+ * the bound store and a format, there is no locale resolution, no base names parsing and no bundle lookup. It can be
+ * kept in a field and shared between threads; when bundles are reloaded it binds again on the next call, so it never
+ * serves a dropped bundle. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class MessageAccessor {
+
+    /** The bundle base name, null for all the configured base names. */
+    private final String baseName;
+    /** The configured base names when it was created, null for one bundle. */
+    private final String[] names;
+    /** The locale. */
+    private final Locale locale;
+    /** The bound store and the generation of bundles it was resolved in. */
+    private volatile Binding binding;
+
+    /**
+     * Default constructor, the store is resolved at once.
+     *
+     * @param baseName the bundle base name, null for the names
+     * @param names    the base names, null for the bundle
+     * @param locale   the locale
+     * @throws NullPointerException     if the baseName or the locale is empty
+     * @throws MissingResourceException if no resource bundle can be found
+     */
+    MessageAccessor(String baseName, String[] names, Locale locale)
+            throws NullPointerException, MissingResourceException {
+        this.baseName = baseName;
+        this.names = names;
+        this.locale = locale;
+        this.binding = bind();
+    }
+
+    /**
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Description : check whether there is a message of the code <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @return true if there is
+     * @throws NullPointerException if the code is empty
+     */
+    public boolean contains(String code) throws NullPointerException {
+        if (StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for contains, code should not be null");
+        }
+        return binding().store.indexOf(code) >= 0;
+    }
+
+    /**
+     * Description : get message, same result as {@link Messages#msg(String, String, Object[], Locale)} or
+     * {@link Messages#msg(String, Object[])} in the bound locale <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @param args the arguments for the formated string (wich will formated by {@link MessageFormat#format(Object)}
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public String msg(String code, Object[] args) throws NullPointerException, NoSuchMessageException {
+        if (StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for msg, code should not be null");
+        }
+        final Binding current = binding();
+        return Messages.msgOf(current.store, current.scope, code, args, locale);
+    }
+
+    /**
+     * Description : get message without arguments, see {@link #msg(String, Object[])} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @return the message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public String msg(String code) throws NullPointerException, NoSuchMessageException {
+        return msg(code, null);
+    }
+
+    /**
+     * Description : get message of one argument without an array, see {@link Messages#msg(String, Object)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @param a0   the argument 0
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public String msg(String code, Object a0) throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 1, a0, null, null, null);
+    }
+
+    /**
+     * Description : get message of two arguments without an array, see {@link Messages#msg(String, Object)} <br>
+     * A {@code null} literal or an array followed by a string selects {@link #msg(String, Object[], String)}, cast
+     * it to {@code Object}. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @param a0   the argument 0
+     * @param a1   the argument 1
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public String msg(String code, Object a0, Object a1) throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 2, a0, a1, null, null);
+    }
+
+    /**
+     * Description : get message of three arguments without an array, see {@link Messages#msg(String, Object)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @param a0   the argument 0
+     * @param a1   the argument 1
+     * @param a2   the argument 2
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public String msg(String code, Object a0, Object a1, Object a2)
+            throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 3, a0, a1, a2, null);
+    }
+
+    /**
+     * Description : get message of four arguments without an array, see {@link Messages#msg(String, Object)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @param a0   the argument 0
+     * @param a1   the argument 1
+     * @param a2   the argument 2
+     * @param a3   the argument 3
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public String msg(String code, Object a0, Object a1, Object a2, Object a3)
+            throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 4, a0, a1, a2, a3);
+    }
+
+    /**
+     * Description : get message of one integral argument without boxing, see {@link Messages#msg(String, long)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @param a0   the argument 0
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public String msg(String code, long a0) throws NullPointerException, NoSuchMessageException {
+        if (StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for msg, code should not be null");
+        }
+        final Binding current = binding();
+        return current.store.format(Messages.slotOf(current.store, current.scope, code, locale), a0);
+    }
+
+    /**
+     * Description : get message of one character argument, see {@link Messages#msg(String, char)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @param a0   the argument 0
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public String msg(String code, char a0) throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 1, a0, null, null, null);
+    }
+
+    /**
+     * Description : get message of up to four arguments <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code  the code in the bundles
+     * @param count the number of arguments
+     * @param a0    the argument 0
+     * @param a1    the argument 1
+     * @param a2    the argument 2
+     * @param a3    the argument 3
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    private String msgWith(String code, int count, Object a0, Object a1, Object a2, Object a3)
+            throws NullPointerException, NoSuchMessageException {
+        if (StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for msg, code should not be null");
+        }
+        final Binding current = binding();
+        return current.store.format(Messages.slotOf(current.store, current.scope, code, locale), count, a0, a1, a2, a3);
+    }
+
+    /**
+     * Description : get message, or the default message formated by the arguments if there is no such code, same
+     * result as {@link Messages#msg(String, String, Object[], String, Locale)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code           the code in the bundles
+     * @param args           the arguments
+     * @param defaultMessage the default message
+     * @return the formated message
+     * @throws NullPointerException if the code or the defaultMessage is empty
+     */
+    public String msg(String code, Object[] args, String defaultMessage) throws NullPointerException {
+        if (StringUtils.isEmpty(code) || StringUtils.isEmpty(defaultMessage)) {
+            throw new NullPointerException("illegal argument for msg, code, defaultMessage should not be null");
+        }
+        final Binding current = binding();
+        final int slot = current.store.indexOf(code);
+        if (slot < 0) {
+            current.scope.defaulted(code);
+            return ObjectUtils.isEmpty(args) ? defaultMessage : MessageFormat.format(defaultMessage, args);
+        }
+        current.scope.hit(code);
+        return ObjectUtils.isEmpty(args) ? current.store.pattern(slot) : current.store.format(slot, args);
+    }
+
+    /**
+     * Description : append message to the builder, see {@link Messages#append(Appendable, String, Object[])} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param code   the code in the bundles
+     * @param args   the arguments
+     * @return the target
+     * @throws NullPointerException   if the target or the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     */
+    public StringBuilder append(StringBuilder target, String code, Object[] args)
+            throws NullPointerException, NoSuchMessageException {
+        if (target == null || StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for append, target, code should not be null");
+        }
+        try {
+            final Binding current = binding();
+            Messages.appendTo(target, current.store, current.scope, code, args, locale);
+        } catch (IOException ex) {
+            // a StringBuilder never throws it
+            throw new UncheckedIOException(ex);
+        }
+        return target;
+    }
+
+    /**
+     * Description : get a streaming writer of these messages to a character stream, see {@link MessageWriter} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param out the target, closed with the writer
+     * @return the writer
+     * @throws NullPointerException if the target is null
+     */
+    public MessageWriter writer(Writer out) throws NullPointerException {
+        if (out == null) {
+            throw new NullPointerException("illegal argument for writer, out should not be null");
+        }
+        return new MessageWriter(this, new MessageWriter.WriterSink(out));
+    }
+
+    /**
+     * Description : get a streaming writer of these messages to a byte channel, the chars are encoded into a reused
+     * buffer, unmappable ones are replaced like by a {@link java.io.OutputStreamWriter}, see {@link MessageWriter} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param channel the target, closed with the writer
+     * @param charset the charset
+     * @return the writer
+     * @throws NullPointerException if the channel or the charset is null
+     */
+    public MessageWriter writer(WritableByteChannel channel, Charset charset) throws NullPointerException {
+        if (channel == null || charset == null) {
+            throw new NullPointerException("illegal argument for writer, channel, charset should not be null");
+        }
+        return new MessageWriter(this, new MessageWriter.ChannelSink(channel, charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE)));
+    }
+
+    @Override
+    public String toString() {
+        return "MessageAccessor[" + (baseName != null ? baseName : String.join(",", names)) + ", " + locale + "]";
+    }
+
+    /**
+     * Description : get the bound store, bind again if bundles were reloaded since <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the binding
+     * @throws MissingResourceException if the bundles can not be found any more
+     */
+    private Binding binding() throws MissingResourceException {
+        Binding current = binding;
+        if (current.generation != Msg.getGeneration()) {
+            current = bind();
+            binding = current;
+        }
+        return current;
+    }
+
+    private Binding bind() throws NullPointerException, MissingResourceException {
+        // read the generation first, a reload in between is seen by the next call
+        final int generation = Msg.getGeneration();
+        if (baseName != null) {
+            final MessageBundle bundle = Msg.getBundle(baseName, locale);
+            return new Binding(generation, bundle.getStore(), bundle.getScope());
+        }
+        final MessageIndex index = Msg.getIndex(names, locale);
+        return new Binding(generation, index.getStore(), index.getScope());
+    }
+
+    /**
+     * ClassName : Binding <br>
+     * Description : A resolved store, its metrics and the generation of bundles it belongs to <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    private static final class Binding {
+
+        private final int generation;
+        private final MessageStore store;
+        private final MessageMetrics.Scope scope;
+
+        Binding(int generation, MessageStore store, MessageMetrics.Scope scope) {
+            this.generation = generation;
+            this.store = store;
+            this.scope = scope;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+/**
+ * ClassName : MessageBundle <br>
+ * Description : A resolved (baseName, locale) bundle and its {@link MessageStore} <br>
+ * All the codes of the bundle, including those of its parent locales, are in the store, so resolving a code is one
+ * lookup in the store. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class MessageBundle {
+
+    /** The key of the bundle. */
+    private final BundleKey key;
+    /** The codes and patterns. */
+    private final MessageStore store;
+    /** The metrics of the bundle. */
+    private final MessageMetrics.Scope scope;
+
+    /**
+     * Default constructor.
+     *
+     * @param key   the key of the bundle
+     * @param store the loaded codes and patterns
+     * @param scope the metrics of the bundle
+     */
+    MessageBundle(BundleKey key, MessageStore store, MessageMetrics.Scope scope) {
+        this.key = key;
+        this.store = store;
+        this.scope = scope;
+    }
+
+    /**
+     * @return the key of the bundle
+     */
+    BundleKey getKey() {
+        return key;
+    }
+
+    /**
+     * @return the codes and patterns
+     */
+    MessageStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return the metrics of the bundle
+     */
+    MessageMetrics.Scope getScope() {
+        return scope;
+    }
+}
@@ -0,0 +1,327 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ClassName : MessageCatalog <br>
+ * Description : {@link MessageStore} on a binary catalog, memory mapped when it's a file <br>
+ * A catalog is written by {@link CatalogCompiler} from the properties files of one bundle, its parents included. The
+ * layout, big endian, is:
+ * <pre>
+ * int magic, int version, int size, int capacity
+ * int[capacity] offsets of the entries by slot, 0 for an empty slot
+ * entries: int hash, int code length, code in UTF-8, int pattern length, pattern in UTF-8
+ * </pre>
+ * Slots are chosen by the {@link String#hashCode()} of the code and linear probing, the table is at most half full. A
+ * lookup compares the code with the UTF-8 bytes in place, and only the pattern of a found code is decoded, once; the
+ * catalog itself stays out of the heap. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class MessageCatalog extends MessageStore {
+
+    /** File extension of the catalogs. */
+    static final String EXTENSION = "catalog";
+    /** "JWMC". */
+    static final int MAGIC = 0x4A574D43;
+    /** Version of the layout. */
+    static final int VERSION = 1;
+    /** Size of the header in bytes. */
+    static final int HEADER = 16;
+
+    /** The catalog, only read by absolute index so it's shared between threads. */
+    private final ByteBuffer buffer;
+    /** Number of codes. */
+    private final int size;
+    /** Mask of the table size. */
+    private final int mask;
+    /** Patterns decoded so far by slot, a pattern is replaced by its {@link MessageTemplate} once compiled. */
+    private final Object[] patterns;
+
+    private MessageCatalog(ByteBuffer buffer, int size, int capacity) {
+        super(capacity);
+        this.buffer = buffer;
+        this.size = size;
+        this.mask = capacity - 1;
+        this.patterns = new Object[capacity];
+    }
+
+    /**
+     * Description : wrap a catalog <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param buffer the catalog, from its first byte to its last one
+     * @return the store
+     * @throws IllegalArgumentException if it's not a catalog or of another version
+     */
+    static MessageCatalog wrap(ByteBuffer buffer) throws IllegalArgumentException {
+        if (buffer.limit() < HEADER || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("not a message catalog of version " + VERSION);
+        }
+        final int capacity = buffer.getInt(12);
+        if (Integer.bitCount(capacity) != 1 || HEADER + 4L * capacity > buffer.limit()) {
+            throw new IllegalArgumentException("corrupted message catalog");
+        }
+        return new MessageCatalog(buffer, buffer.getInt(8), capacity);
+    }
+
+    /**
+     * Description : find the catalog of a bundle by the same candidate locales and fallback as
+     * {@link java.util.ResourceBundle#getBundle(String, Locale, ClassLoader)}, memoized by {@link LocaleChain}, map it
+     * if it's a file, or read it out of the heap otherwise. A properties file more specific than the first catalog
+     * found wins, the bundle is then loaded from the properties files <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param bundleName the bundle name
+     * @param locale     the locale
+     * @param loader     the class loader of the bundle files
+     * @return the store, or null if there is no catalog for the bundle or a more specific properties file
+     * @throws IOException if the catalog can not be read
+     */
+    static MessageCatalog find(String bundleName, Locale locale, ClassLoader loader) throws IOException {
+        for (Locale candidate : LocaleChain.of(locale).searchOrder()) {
+            final String name = BundleLoader.CONTROL.toBundleName(bundleName, candidate);
+            final URL url = resource(loader, BundleLoader.CONTROL.toResourceName(name, EXTENSION));
+            if (url != null) {
+                return wrap(read(url));
+            }
+            if (resource(loader, BundleLoader.CONTROL.toResourceName(name, "properties")) != null) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static URL resource(ClassLoader loader, String resource) {
+        return loader == null ? ClassLoader.getSystemResource(resource) : loader.getResource(resource);
+    }
+
+    /**
+     * Description : map a catalog file, or read it into a direct buffer if it's not a file <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param url the catalog
+     * @return the content
+     * @throws IOException if it can not be read
+     */
+    private static ByteBuffer read(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            final Path file;
+            try {
+                file = Paths.get(url.toURI());
+            } catch (URISyntaxException ex) {
+                throw new IOException(ex);
+            }
+            // the mapping stays valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        final URLConnection connection = url.openConnection();
+        connection.setUseCaches(false);
+        try (InputStream in = connection.getInputStream()) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                bytes.write(chunk, 0, read);
+            }
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+            buffer.put(bytes.toByteArray()).flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Description : write a catalog of the given codes <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param messages the codes and patterns
+     * @param out      the target, not closed
+     * @throws IOException if it can not be written
+     */
+    static void write(Map<String, String> messages, OutputStream out) throws IOException {
+        int capacity = 2;
+        while (capacity < messages.size() * 2) {
+            capacity <<= 1;
+        }
+        final int[] offsets = new int[capacity];
+        final List<byte[]> entries = new ArrayList<>();
+        long offset = HEADER + 4L * capacity;
+        for (Map.Entry<String, String> message : messages.entrySet()) {
+            final String code = message.getKey();
+            int slot = spread(code.hashCode()) & (capacity - 1);
+            while (offsets[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            final byte[] codeBytes = code.getBytes(StandardCharsets.UTF_8);
+            if (!new String(codeBytes, StandardCharsets.UTF_8).equals(code)) {
+                throw new IllegalArgumentException("code is not valid UTF-16: " + code);
+            }
+            final byte[] patternBytes = message.getValue().getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer entry = ByteBuffer.allocate(12 + codeBytes.length + patternBytes.length);
+            entry.putInt(code.hashCode()).putInt(codeBytes.length).put(codeBytes)
+                .putInt(patternBytes.length).put(patternBytes);
+            if (offset > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("message catalog too large");
+            }
+            offsets[slot] = (int) offset;
+            offset += entry.capacity();
+            entries.add(entry.array());
+        }
+        final ByteBuffer head = ByteBuffer.allocate(HEADER + 4 * capacity);
+        head.putInt(MAGIC).putInt(VERSION).putInt(messages.size()).putInt(capacity);
+        for (int value : offsets) {
+            head.putInt(value);
+        }
+        out.write(head.array());
+        for (byte[] entry : entries) {
+            out.write(entry);
+        }
+    }
+
+    @Override
+    int indexOf(String code) {
+        final int hash = code.hashCode();
+        int slot = spread(hash) & mask;
+        int offset = buffer.getInt(HEADER + 4 * slot);
+        while (offset != 0) {
+            if (buffer.getInt(offset) == hash && matches(offset + 8, buffer.getInt(offset + 4), code)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+            offset = buffer.getInt(HEADER + 4 * slot);
+        }
+        return -1;
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    String code(int slot) {
+        final int offset = buffer.getInt(HEADER + 4 * slot);
+        return offset == 0 ? null : decode(offset + 8, buffer.getInt(offset + 4));
+    }
+
+    @Override
+    String pattern(int slot) {
+        final Object kept = patterns[slot];
+        if (kept instanceof MessageTemplate) {
+            return ((MessageTemplate) kept).getPattern();
+        }
+        String pattern = (String) kept;
+        if (pattern == null) {
+            final int offset = buffer.getInt(HEADER + 4 * slot);
+            final int codeEnd = offset + 8 + buffer.getInt(offset + 4);
+            pattern = decode(codeEnd + 4, buffer.getInt(codeEnd));
+            patterns[slot] = pattern;
+        }
+        return pattern;
+    }
+
+    @Override
+    MessageTemplate compiled(int slot) {
+        final Object kept = patterns[slot];
+        return kept instanceof MessageTemplate ? (MessageTemplate) kept : null;
+    }
+
+    @Override
+    void keep(int slot, MessageTemplate template) {
+        patterns[slot] = template;
+    }
+
+    /**
+     * Description : compare UTF-8 bytes in the catalog with a code, without decoding them <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param start  the first byte
+     * @param length the number of bytes
+     * @param code   the code
+     * @return true if they are the same
+     */
+    private boolean matches(int start, int length, String code) {
+        final int end = start + length;
+        int pos = start;
+        int index = 0;
+        while (pos < end) {
+            final int b = buffer.get(pos) & 0xFF;
+            final int c;
+            if (b < 0x80) {
+                c = b;
+                pos++;
+            } else if (b < 0xE0) {
+                c = (b & 0x1F) << 6 | buffer.get(pos + 1) & 0x3F;
+                pos += 2;
+            } else if (b < 0xF0) {
+                c = (b & 0x0F) << 12 | (buffer.get(pos + 1) & 0x3F) << 6 | buffer.get(pos + 2) & 0x3F;
+                pos += 3;
+            } else {
+                final int codePoint = (b & 0x07) << 18 | (buffer.get(pos + 1) & 0x3F) << 12
+                    | (buffer.get(pos + 2) & 0x3F) << 6 | buffer.get(pos + 3) & 0x3F;
+                pos += 4;
+                if (index + 1 >= code.length() || code.charAt(index) != Character.highSurrogate(codePoint)) {
+                    return false;
+                }
+                index++;
+                c = Character.lowSurrogate(codePoint);
+            }
+            if (index >= code.length() || code.charAt(index) != c) {
+                return false;
+            }
+            index++;
+        }
+        return index == code.length();
+    }
+
+    private String decode(int start, int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
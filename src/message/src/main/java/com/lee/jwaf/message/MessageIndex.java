@@ -0,0 +1,82 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+/**
+ * ClassName : MessageIndex <br>
+ * Description : Merged code index of all the configured bundles of one locale <br>
+ * Each code is taken from the first bundle, in base name order, which contains it, so a lookup across all bundles is
+ * one lookup in the merged store and a miss is known without asking every bundle. A single bundle is used as it is,
+ * and {@link MessageCatalog}s are chained instead of merged, to keep their codes out of the heap. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class MessageIndex {
+
+    /** The merged codes and patterns. */
+    private final MessageStore store;
+    /** The metrics of the index. */
+    private final MessageMetrics.Scope scope;
+
+    /**
+     * Default constructor.
+     *
+     * @param bundles the bundles in search order
+     * @param scope   the metrics of the index
+     */
+    MessageIndex(MessageBundle[] bundles, MessageMetrics.Scope scope) {
+        this.scope = scope;
+        final MessageStore[] stores = new MessageStore[bundles.length];
+        for (int i = 0; i < bundles.length; i++) {
+            stores[i] = bundles[i].getStore();
+        }
+        if (stores.length == 1) {
+            this.store = stores[0];
+        } else if (isCompact(stores)) {
+            this.store = CompactMessageStore.merge(stores);
+        } else {
+            this.store = new ChainedMessageStore(stores);
+        }
+    }
+
+    private static boolean isCompact(MessageStore[] stores) {
+        for (MessageStore store : stores) {
+            if (!(store instanceof CompactMessageStore)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the merged codes and patterns
+     */
+    MessageStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return the metrics of the index
+     */
+    MessageMetrics.Scope getScope() {
+        return scope;
+    }
+}
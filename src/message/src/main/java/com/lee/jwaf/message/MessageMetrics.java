@@ -0,0 +1,342 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+package com.lee.jwaf.message;
+
+import java.lang.management.ManagementFactory;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * ClassName : MessageMetrics <br>
+ * Description : Counters of {@link Messages}, exposed by JMX as {@link MessagesMXBean} <br>
+ * Each bundle and each merged index holds its {@link Scope}, so counting a lookup is one check of the enabled flag and
+ * one {@link LongAdder} increment, with no map lookup. Hot codes are counted on one hit out of {@link #SAMPLE}, missed
+ * codes are all counted; both keep at most {@link #MAX_CODES} distinct codes. When disabled, the cost of a lookup is
+ * the read of the flag only. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class MessageMetrics implements MessagesMXBean {
+
+    /** One hit out of it is counted by code. */
+    static final int SAMPLE = 16;
+    /** Maximum number of distinct codes counted as hot or missing. */
+    static final int MAX_CODES = 10000;
+    /** Maximum number of scopes, the next ones share {@link #OVERFLOW}. */
+    static final int MAX_SCOPES = 10000;
+    /** Name of the scope shared past {@link #MAX_SCOPES}. */
+    static final String OVERFLOW = "*";
+
+    /** Upper bounds of the load latency buckets in nanoseconds, the last bucket has none. */
+    private static final long[] BOUNDS = {TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(1),
+        TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(1)};
+    /** Labels of the load latency buckets. */
+    private static final String[] LABELS = {"<=0.1ms", "<=1ms", "<=10ms", "<=100ms", "<=1s", ">1s"};
+
+    /** Whether the metrics are counted. */
+    private volatile boolean enabled;
+    /** Whether this instance registered the MXBean. */
+    private volatile boolean registered;
+    /** Map&lt;name, Scope&gt;. */
+    private final ConcurrentMap<String, Scope> scopes = new ConcurrentHashMap<>();
+    /** Load counts by latency bucket. */
+    private final LongAdder[] latencies = new LongAdder[LABELS.length];
+    /** Map&lt;code, sampled hits&gt;. */
+    private final ConcurrentMap<String, LongAdder> hotCodes = new ConcurrentHashMap<>();
+    /** Map&lt;code, misses&gt;. */
+    private final ConcurrentMap<String, LongAdder> missingCodes = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param enabled whether the metrics are counted from the start
+     */
+    MessageMetrics(boolean enabled) {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LongAdder();
+        }
+        setEnabled(enabled);
+    }
+
+    /**
+     * Description : get the scope of a name, the same scope is returned for the same name so the counts survive a
+     * reload or an eviction; past {@link #MAX_SCOPES} names, e.g. under a flood of junk locales, the new names share
+     * one scope <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param name the name of the scope
+     * @return the scope
+     */
+    Scope scope(String name) {
+        final Scope scope = scopes.get(name);
+        if (scope != null) {
+            return scope;
+        }
+        return scopes.computeIfAbsent(scopes.size() < MAX_SCOPES ? name : OVERFLOW, Scope::new);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled) {
+            register();
+        } else {
+            unregister();
+        }
+    }
+
+    @Override
+    public long getHits() {
+        long total = 0;
+        for (Scope scope : scopes.values()) {
+            total += scope.hits.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getMisses() {
+        long total = 0;
+        for (Scope scope : scopes.values()) {
+            total += scope.misses.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getDefaults() {
+        long total = 0;
+        for (Scope scope : scopes.values()) {
+            total += scope.defaults.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getLoads() {
+        long total = 0;
+        for (LongAdder latency : latencies) {
+            total += latency.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public List<MessageStatistics> getScopes() {
+        final List<MessageStatistics> result = new ArrayList<>();
+        for (Scope scope : scopes.values()) {
+            result.add(new MessageStatistics(scope.name, scope.hits.sum(), scope.misses.sum(), scope.defaults.sum(),
+                scope.loads.sum(), TimeUnit.NANOSECONDS.toMillis(scope.loadNanos.sum())));
+        }
+        result.sort((a, b) -> a.getScope().compareTo(b.getScope()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getLoadLatencyHistogram() {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < LABELS.length; i++) {
+            result.put(LABELS[i], latencies[i].sum());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> topHotCodes(int limit) {
+        return top(hotCodes, limit);
+    }
+
+    @Override
+    public Map<String, Long> topMissingCodes(int limit) {
+        return top(missingCodes, limit);
+    }
+
+    @Override
+    public void reset() {
+        for (Scope scope : scopes.values()) {
+            scope.hits.reset();
+            scope.misses.reset();
+            scope.defaults.reset();
+            scope.loads.reset();
+            scope.loadNanos.reset();
+        }
+        for (LongAdder latency : latencies) {
+            latency.reset();
+        }
+        hotCodes.clear();
+        missingCodes.clear();
+    }
+
+    /**
+     * Description : register the MXBean in the platform MBean server, a registration left by another instance, e.g.
+     * of an undeployed application, is replaced <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    private synchronized void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            try {
+                server.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException ex) {
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+            registered = true;
+        } catch (JMException | SecurityException ex) {
+            // the counts are still available by Messages#getMetrics()
+        }
+    }
+
+    /**
+     * Description : unregister the MXBean from the platform MBean server if this instance registered it, so a
+     * container can drop it with the application <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    synchronized void unregister() {
+        if (!registered) {
+            return;
+        }
+        registered = false;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException ex) {
+            // already unregistered by someone else
+        } catch (JMException | SecurityException ex) {
+            // nothing more can be done
+        }
+    }
+
+    private static void count(ConcurrentMap<String, LongAdder> codes, String code) {
+        LongAdder counter = codes.get(code);
+        if (counter == null) {
+            if (codes.size() >= MAX_CODES) {
+                return;
+            }
+            counter = codes.computeIfAbsent(code, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static Map<String, Long> top(ConcurrentMap<String, LongAdder> codes, int limit) {
+        final List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        for (Map.Entry<String, LongAdder> code : codes.entrySet()) {
+            counts.add(new AbstractMap.SimpleImmutableEntry<>(code.getKey(), code.getValue().sum()));
+        }
+        counts.sort(Collections.reverseOrder(Map.Entry.comparingByValue()));
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> count : counts.subList(0, Math.min(Math.max(limit, 0), counts.size()))) {
+            result.put(count.getKey(), count.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * ClassName : Scope <br>
+     * Description : Counters of one bundle or merged index <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    final class Scope {
+
+        private final String name;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder defaults = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+
+        Scope(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param code the found code
+         */
+        void hit(String code) {
+            if (enabled) {
+                hits.increment();
+                if (ThreadLocalRandom.current().nextInt(SAMPLE) == 0) {
+                    count(hotCodes, code);
+                }
+            }
+        }
+
+        /**
+         * @param code the missing code, which causes a {@link NoSuchMessageException}
+         */
+        void miss(String code) {
+            if (enabled) {
+                misses.increment();
+                count(missingCodes, code);
+            }
+        }
+
+        /**
+         * @param code the missing code, which is answered by a default message
+         */
+        void defaulted(String code) {
+            if (enabled) {
+                misses.increment();
+                defaults.increment();
+                count(missingCodes, code);
+            }
+        }
+
+        /**
+         * @param nanos the load time
+         */
+        void loaded(long nanos) {
+            if (enabled) {
+                loads.increment();
+                loadNanos.add(nanos);
+                int bucket = 0;
+                while (bucket < BOUNDS.length && nanos > BOUNDS[bucket]) {
+                    bucket++;
+                }
+                latencies[bucket].increment();
+            }
+        }
+    }
+}
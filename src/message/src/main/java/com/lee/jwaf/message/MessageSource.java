@@ -0,0 +1,74 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.function.Consumer;
+
+/**
+ * ClassName : MessageSource <br>
+ * Description : Where the codes and patterns of bundles come from, see {@link Messages#setMessageSource(MessageSource)}
+ * <br>
+ * By default they come from the {@code <baseName>-messages*.properties} files on the class path, see
+ * {@link #classpath()}. A source is asked for a (baseName, locale) bundle once, when it's first used or when the
+ * source reports its base name as changed; lookups are served from the loaded copy, never from the source. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public interface MessageSource {
+
+    /**
+     * Description : load all the codes of a bundle, those of its parent locales included <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName the bundle base name
+     * @param locale   the locale
+     * @return Map&lt;code, pattern&gt;, not kept by the caller
+     * @throws MissingResourceException if there is no such bundle
+     */
+    Map<String, String> load(String baseName, Locale locale) throws MissingResourceException;
+
+    /**
+     * Description : set the listener called with the base name of each bundle which changed in the source, so it's
+     * loaded again; a source which never changes can ignore it <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param listener the listener, null when the source is not used any more
+     */
+    default void setListener(Consumer<String> listener) {
+    }
+
+    /**
+     * Description : get the default source, the properties files on the class path, or their compiled catalogs, see
+     * {@link Messages#setCatalogs(boolean)} and {@link Messages#setReloadable(boolean)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the class path source
+     */
+    static MessageSource classpath() {
+        return ClasspathMessageSource.INSTANCE;
+    }
+}
@@ -0,0 +1,106 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+package com.lee.jwaf.message;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * ClassName : MessageStatistics <br>
+ * Description : Counts of one scope of {@link MessagesMXBean}, a bundle or the merged index of a locale <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class MessageStatistics {
+
+    private final String scope;
+    private final long hits;
+    private final long misses;
+    private final long defaults;
+    private final long loads;
+    private final long loadMillis;
+
+    /**
+     * Default constructor.
+     *
+     * @param scope      the name of the scope
+     * @param hits       the number of codes found
+     * @param misses     the number of codes not found
+     * @param defaults   the number of misses answered by a default message
+     * @param loads      the number of loads
+     * @param loadMillis the total load time in milliseconds
+     */
+    @ConstructorProperties({"scope", "hits", "misses", "defaults", "loads", "loadMillis"})
+    public MessageStatistics(String scope, long hits, long misses, long defaults, long loads, long loadMillis) {
+        this.scope = scope;
+        this.hits = hits;
+        this.misses = misses;
+        this.defaults = defaults;
+        this.loads = loads;
+        this.loadMillis = loadMillis;
+    }
+
+    /**
+     * @return the name of the scope
+     */
+    public String getScope() {
+        return scope;
+    }
+
+    /**
+     * @return the number of codes found
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of codes not found
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of misses answered by a default message
+     */
+    public long getDefaults() {
+        return defaults;
+    }
+
+    /**
+     * @return the number of loads, 0 for an index
+     */
+    public long getLoads() {
+        return loads;
+    }
+
+    /**
+     * @return the total load time in milliseconds
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    @Override
+    public String toString() {
+        return scope + ": " + hits + " hits, " + misses + " misses, " + defaults + " defaults, " + loads + " loads in "
+            + loadMillis + " ms";
+    }
+}
@@ -0,0 +1,215 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * ClassName : MessageStore <br>
+ * Description : Read-only code to pattern storage of one loaded bundle <br>
+ * A code is resolved to a slot once by {@link #indexOf(String)}, then the pattern and the formated message are read
+ * by slot. The compiled {@link MessageTemplate} of a slot is kept by the implementation in place of its pattern, so
+ * there is no template array next to the patterns; it's immutable so a racy write only means the pattern may be
+ * compiled twice. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+abstract class MessageStore {
+
+    /** Number of slots. */
+    private final int capacity;
+
+    /**
+     * Default constructor.
+     *
+     * @param capacity the number of slots
+     */
+    MessageStore(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Description : resolve a code <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code
+     * @return the slot of the code, or -1 if there is no such code
+     */
+    abstract int indexOf(String code);
+
+    /**
+     * @return the number of codes
+     */
+    abstract int size();
+
+    /**
+     * @param slot the slot
+     * @return the code in the slot, null for an empty slot
+     */
+    abstract String code(int slot);
+
+    /**
+     * @param slot the slot of a code
+     * @return the raw pattern
+     */
+    abstract String pattern(int slot);
+
+    /**
+     * @param slot the slot of a code
+     * @return the template compiled for the slot, null if there is none yet
+     */
+    abstract MessageTemplate compiled(int slot);
+
+    /**
+     * Description : keep the compiled template of a slot in place of its pattern <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param slot     the slot of a code
+     * @param template the template of its pattern
+     */
+    abstract void keep(int slot, MessageTemplate template);
+
+    /**
+     * @return the number of slots
+     */
+    final int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Description : format the pattern of a slot, same result as {@link MessageFormat#format(String, Object...)}, the
+     * pattern is parsed again only if the default format locale changed <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param slot the slot of a code
+     * @param args the arguments
+     * @return the formated message
+     */
+    final String format(int slot, Object[] args) {
+        return template(slot).format(args);
+    }
+
+    /**
+     * Description : format the pattern of a slot with up to four arguments and no array, see
+     * {@link MessageTemplate#format(int, Object, Object, Object, Object)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param slot  the slot of a code
+     * @param count the number of arguments
+     * @param a0    the argument 0
+     * @param a1    the argument 1
+     * @param a2    the argument 2
+     * @param a3    the argument 3
+     * @return the formated message
+     */
+    final String format(int slot, int count, Object a0, Object a1, Object a2, Object a3) {
+        return template(slot).format(count, a0, a1, a2, a3);
+    }
+
+    /**
+     * Description : format the pattern of a slot with one integral argument and no boxing, see
+     * {@link MessageTemplate#format(long)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param slot the slot of a code
+     * @param a0   the argument 0
+     * @return the formated message
+     */
+    final String format(int slot, long a0) {
+        return template(slot).format(a0);
+    }
+
+    /**
+     * Description : format the pattern of a slot into the target, see {@link #format(int, Object[])} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param slot   the slot of a code
+     * @param target the target
+     * @param args   the arguments
+     * @throws IOException if the target fails
+     */
+    final void formatTo(int slot, Appendable target, Object[] args) throws IOException {
+        template(slot).formatTo(target, args);
+    }
+
+    /**
+     * Description : compile the templates of all the slots for the current default format locale <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param invalid receives a description of each invalid pattern
+     * @return the number of compiled templates
+     */
+    final int compile(Collection<String> invalid) {
+        int compiled = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (code(slot) != null) {
+                try {
+                    template(slot);
+                    compiled++;
+                } catch (IllegalArgumentException ex) {
+                    invalid.add(code(slot) + ": " + ex.getMessage());
+                }
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Description : get the compiled template of a slot for the current default format locale <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param slot the slot of a code
+     * @return the template
+     */
+    final MessageTemplate template(int slot) {
+        final Locale formatLocale = Locale.getDefault(Locale.Category.FORMAT);
+        MessageTemplate current = compiled(slot);
+        if (current == null || !current.isFor(formatLocale)) {
+            current = MessageTemplate.compile(pattern(slot), formatLocale);
+            keep(slot, current);
+        }
+        return current;
+    }
+
+    /**
+     * Description : mix the high bits of a hash code into the low ones, the slot of a code is
+     * {@code spread(code.hashCode()) & (capacity - 1)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param hash the hash code
+     * @return the spread hash
+     */
+    static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,346 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.AttributedCharacterIterator;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ClassName : MessageTemplate <br>
+ * Description : A message pattern parsed once and formatted many times <br>
+ * The pattern is parsed by {@link MessageFormat} itself, so quoting and argument rules are exactly the same. A pattern
+ * made only of plain {@code {n}} placeholders is kept as literal segments and formatted without any
+ * {@link MessageFormat}; a pattern with typed sub-formats (e.g. {@code {1,time,H-m-s}}) keeps the parsed
+ * {@link MessageFormat} as a prototype which is cloned for each format, because {@link MessageFormat} is not
+ * thread-safe. Plain patterns also take up to four arguments or one integral argument without an array, see
+ * {@link #format(int, Object, Object, Object, Object)} and {@link #format(long)}. Instances are immutable and can be
+ * shared between threads. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+final class MessageTemplate {
+
+    /** Value used to probe the argument positions of a pattern, one char long on purpose. */
+    private static final String PROBE = "?";
+
+    /** The source pattern. */
+    private final String pattern;
+    /** The locale used for sub-formats, same as {@link MessageFormat#format(String, Object...)} would use. */
+    private final Locale locale;
+    /** Literal segments, {@code literals[i]} is written before argument {@code indexes[i]}, the last one trails. */
+    private final String[] literals;
+    /** Argument indexes in order of appearance. */
+    private final int[] indexes;
+    /** Parsed prototype for patterns with typed sub-formats, null for plain patterns. */
+    private final MessageFormat prototype;
+    /** Writes the integral arguments of plain patterns, null for patterns with typed sub-formats. */
+    private final IntegerFormat integers;
+    /** The largest argument index plus one. */
+    private final int argumentCount;
+
+    private MessageTemplate(String pattern, Locale locale, String[] literals, int[] indexes, MessageFormat prototype,
+                            int argumentCount) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.literals = literals;
+        this.indexes = indexes;
+        this.prototype = prototype;
+        this.argumentCount = argumentCount;
+        this.integers = prototype == null ? IntegerFormat.of(locale) : null;
+    }
+
+    /**
+     * Description : parse the pattern <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param pattern the message pattern
+     * @param locale  the locale for number and date arguments
+     * @return the compiled template
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static MessageTemplate compile(String pattern, Locale locale) throws IllegalArgumentException {
+        final MessageFormat format = new MessageFormat(pattern, locale);
+        final int argumentCount = format.getFormatsByArgumentIndex().length;
+        for (Format sub : format.getFormats()) {
+            if (sub != null) {
+                return new MessageTemplate(pattern, locale, null, null, format, argumentCount);
+            }
+        }
+        final Object[] probe = new Object[argumentCount];
+        for (int i = 0; i < probe.length; i++) {
+            probe[i] = PROBE;
+        }
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> indexes = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        final AttributedCharacterIterator it = format.formatToCharacterIterator(probe);
+        int pos = it.getBeginIndex();
+        while (pos < it.getEndIndex()) {
+            it.setIndex(pos);
+            final Integer argument = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+            if (argument == null) {
+                literal.append(it.current());
+                pos++;
+            } else {
+                // adjacent placeholders of the same argument are merged into one run, one probe char each
+                final int limit = it.getRunLimit(MessageFormat.Field.ARGUMENT);
+                for (; pos < limit; pos++) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    indexes.add(argument);
+                }
+            }
+        }
+        literals.add(literal.toString());
+        final int[] indexArray = new int[indexes.size()];
+        for (int i = 0; i < indexArray.length; i++) {
+            indexArray[i] = indexes.get(i);
+        }
+        return new MessageTemplate(pattern, locale, literals.toArray(new String[literals.size()]), indexArray, null,
+            argumentCount);
+    }
+
+    /**
+     * Description : check whether this template is still valid for the given format locale <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param formatLocale the current format locale
+     * @return true if it can be reused
+     */
+    boolean isFor(Locale formatLocale) {
+        return locale.equals(formatLocale);
+    }
+
+    /**
+     * @return the source pattern
+     */
+    String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return the largest argument index of the pattern plus one, 0 if it has no argument
+     */
+    int getArgumentCount() {
+        return argumentCount;
+    }
+
+    /**
+     * Description : format the arguments, same result as {@link MessageFormat#format(Object)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param args the arguments
+     * @return the formated message
+     */
+    String format(Object[] args) {
+        if (prototype != null) {
+            return ((MessageFormat) prototype.clone()).format(args);
+        }
+        final StringBuilder result = new StringBuilder(pattern.length() + 16 * indexes.length);
+        try {
+            formatTo(result, args);
+        } catch (IOException ex) {
+            // a StringBuilder never throws it
+            throw new UncheckedIOException(ex);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Description : format up to four arguments, same result as {@link #format(Object[])} of an array of the first
+     * {@code count} ones <br>
+     * A plain pattern writes them with no array, a pattern with typed sub-formats copies them into one. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param count the number of arguments, from 1 to 4
+     * @param a0    the argument 0
+     * @param a1    the argument 1, ignored if the count is less than 2
+     * @param a2    the argument 2, ignored if the count is less than 3
+     * @param a3    the argument 3, ignored if the count is less than 4
+     * @return the formated message
+     */
+    String format(int count, Object a0, Object a1, Object a2, Object a3) {
+        if (prototype != null) {
+            final Object[] args = {a0, a1, a2, a3};
+            return ((MessageFormat) prototype.clone()).format(count == args.length ? args : Arrays.copyOf(args, count));
+        }
+        final StringBuilder result = new StringBuilder(pattern.length() + 16 * indexes.length);
+        try {
+            for (int i = 0; i < indexes.length; i++) {
+                result.append(literals[i]);
+                final int index = indexes[i];
+                if (index >= count) {
+                    appendPlaceholder(result, index);
+                } else {
+                    appendValue(result, index == 0 ? a0 : index == 1 ? a1 : index == 2 ? a2 : a3);
+                }
+            }
+        } catch (IOException ex) {
+            // a StringBuilder never throws it
+            throw new UncheckedIOException(ex);
+        }
+        return result.append(literals[indexes.length]).toString();
+    }
+
+    /**
+     * Description : format one integral argument, same result as {@link #format(Object[])} of its boxed value <br>
+     * A plain pattern writes its digits with no boxing, a pattern with typed sub-formats boxes it. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param a0 the argument 0
+     * @return the formated message
+     */
+    String format(long a0) {
+        if (prototype != null) {
+            return ((MessageFormat) prototype.clone()).format(new Object[] {a0});
+        }
+        final StringBuilder result = new StringBuilder(pattern.length() + 16 * indexes.length);
+        try {
+            for (int i = 0; i < indexes.length; i++) {
+                result.append(literals[i]);
+                if (indexes[i] == 0) {
+                    integers.appendTo(result, a0);
+                } else {
+                    appendPlaceholder(result, indexes[i]);
+                }
+            }
+        } catch (IOException ex) {
+            // a StringBuilder never throws it
+            throw new UncheckedIOException(ex);
+        }
+        return result.append(literals[indexes.length]).toString();
+    }
+
+    /**
+     * Description : format the arguments into the target, same result as {@link MessageFormat#format(Object)} <br>
+     * A plain pattern is written piece by piece and allocates nothing for string and integral arguments, only other
+     * number and date arguments are formated into a temporary string. A pattern with typed sub-formats is formated
+     * by a clone of the prototype. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param args   the arguments
+     * @throws IOException if the target fails
+     */
+    void formatTo(Appendable target, Object[] args) throws IOException {
+        if (prototype != null) {
+            target.append(((MessageFormat) prototype.clone()).format(args));
+            return;
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            target.append(literals[i]);
+            appendArgument(target, indexes[i], args);
+        }
+        target.append(literals[indexes.length]);
+    }
+
+    /**
+     * Description : append one argument the way {@link MessageFormat} does when no sub-format is given <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param index  the argument index
+     * @param args   the arguments
+     * @throws IOException if the target fails
+     */
+    private void appendArgument(Appendable target, int index, Object[] args) throws IOException {
+        if (args == null || index >= args.length) {
+            appendPlaceholder(target, index);
+        } else {
+            appendValue(target, args[index]);
+        }
+    }
+
+    /**
+     * Description : append the value of an argument the way {@link MessageFormat} does when no sub-format is given,
+     * integral numbers are written digit by digit <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param arg    the value
+     * @throws IOException if the target fails
+     */
+    private void appendValue(Appendable target, Object arg) throws IOException {
+        if (arg == null) {
+            target.append("null");
+        } else if (IntegerFormat.isIntegral(arg)) {
+            integers.appendTo(target, ((Number) arg).longValue());
+        } else if (arg instanceof Number) {
+            target.append(NumberFormat.getInstance(locale).format(arg));
+        } else if (arg instanceof Date) {
+            target.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(arg));
+        } else if (arg instanceof String) {
+            target.append((String) arg);
+        } else {
+            final String value = arg.toString();
+            target.append(value == null ? "null" : value);
+        }
+    }
+
+    /**
+     * Description : append the placeholder of a missing argument, as {@link MessageFormat} does <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param index  the argument index
+     * @throws IOException if the target fails
+     */
+    private static void appendPlaceholder(Appendable target, int index) throws IOException {
+        target.append('{');
+        appendIndex(target, index);
+        target.append('}');
+    }
+
+    /**
+     * Description : append a non negative index digit by digit, without a temporary string <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param index  the index
+     * @throws IOException if the target fails
+     */
+    private static void appendIndex(Appendable target, int index) throws IOException {
+        if (index >= 10) {
+            appendIndex(target, index / 10);
+        }
+        target.append((char) ('0' + index % 10));
+    }
+}
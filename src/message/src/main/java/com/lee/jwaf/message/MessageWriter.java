@@ -0,0 +1,338 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * ClassName : MessageWriter <br>
+ * Description : Streaming writer of the messages of a {@link MessageAccessor}, for exports of any size <br>
+ * Created by {@link MessageAccessor#writer(Writer)} or
+ * {@link MessageAccessor#writer(WritableByteChannel, java.nio.charset.Charset)}. Messages are formated straight into
+ * one reused chunk, no string is built per message, and the chunk is written to the target each time it's full, so
+ * the memory stays the same whatever the number of rows. Rows are pulled from a {@link Stream} one at a time and each
+ * write to the target blocks, so a slow target slows the stream down instead of filling the memory. Not thread-safe,
+ * one writer per export. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class MessageWriter implements Closeable, Flushable {
+
+    /** Size of a chunk in chars. */
+    static final int CHUNK = 8192;
+
+    /** The messages. */
+    private final MessageAccessor accessor;
+    /** The target. */
+    private final Sink sink;
+    /** The chunk being filled. */
+    private final StringBuilder chunk = new StringBuilder(CHUNK + 256);
+
+    /**
+     * Default constructor.
+     *
+     * @param accessor the messages
+     * @param sink     the target
+     */
+    MessageWriter(MessageAccessor accessor, Sink sink) {
+        this.accessor = accessor;
+        this.sink = sink;
+    }
+
+    /**
+     * Description : write a message, see {@link MessageAccessor#msg(String, Object[])} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundles
+     * @param args the arguments
+     * @return this writer
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code
+     * @throws IOException            if the target fails
+     */
+    public MessageWriter write(String code, Object[] args)
+            throws NullPointerException, NoSuchMessageException, IOException {
+        accessor.append(chunk, code, args);
+        drainIfFull();
+        return this;
+    }
+
+    /**
+     * Description : write a text as it is, e.g. a separator or a raw cell <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param text the text
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public MessageWriter write(CharSequence text) throws IOException {
+        chunk.append(text);
+        drainIfFull();
+        return this;
+    }
+
+    /**
+     * Description : write a message for each record, followed by the separator <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param records   the (code, args) records
+     * @param separator written after each message, e.g. a line separator
+     * @return the number of messages written
+     * @throws NullPointerException   if a code is empty
+     * @throws NoSuchMessageException if it can not find the message of a code
+     * @throws IOException            if the target fails
+     */
+    public long render(Stream<? extends Map.Entry<String, Object[]>> records, CharSequence separator)
+            throws NullPointerException, NoSuchMessageException, IOException {
+        return render(records, record -> record.getKey(), record -> record.getValue(), separator);
+    }
+
+    /**
+     * Description : write a message for each row, followed by the separator, the code and the arguments are taken
+     * from the row so no record is built per row <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param rows      the rows
+     * @param code      gives the code of a row
+     * @param args      gives the arguments of a row
+     * @param separator written after each message, e.g. a line separator
+     * @param <T>       the row type
+     * @return the number of messages written
+     * @throws NullPointerException   if a code is empty
+     * @throws NoSuchMessageException if it can not find the message of a code
+     * @throws IOException            if the target fails
+     */
+    public <T> long render(Stream<T> rows, Function<? super T, String> code, Function<? super T, Object[]> args,
+                           CharSequence separator) throws NullPointerException, NoSuchMessageException, IOException {
+        long count = 0;
+        // pulled one by one, the stream never runs ahead of the target
+        final Iterator<T> it = rows.iterator();
+        while (it.hasNext()) {
+            final T row = it.next();
+            accessor.append(chunk, code.apply(row), args.apply(row));
+            chunk.append(separator);
+            drainIfFull();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Description : write the chunk and flush the target <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @throws IOException if the target fails
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        sink.flush();
+    }
+
+    /**
+     * Description : write the chunk and close the target <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @throws IOException if the target fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+            sink.finish();
+        } finally {
+            sink.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MessageWriter[" + accessor + "]";
+    }
+
+    private void drainIfFull() throws IOException {
+        if (chunk.length() >= CHUNK) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (chunk.length() > 0) {
+            sink.write(chunk);
+            chunk.setLength(0);
+        }
+    }
+
+    /**
+     * ClassName : Sink <br>
+     * Description : Target of the chunks <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    interface Sink extends Flushable, Closeable {
+
+        /**
+         * @param chunk the chars to write, not kept
+         * @throws IOException if the target fails
+         */
+        void write(StringBuilder chunk) throws IOException;
+
+        /**
+         * @throws IOException if the target fails
+         */
+        default void finish() throws IOException {
+        }
+    }
+
+    /**
+     * ClassName : WriterSink <br>
+     * Description : Chunks copied into a reused array and written to a {@link Writer} <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    static final class WriterSink implements Sink {
+
+        private final Writer out;
+        private char[] chars = new char[CHUNK];
+
+        WriterSink(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(StringBuilder chunk) throws IOException {
+            if (chars.length < chunk.length()) {
+                chars = new char[chunk.length()];
+            }
+            chunk.getChars(0, chunk.length(), chars, 0);
+            out.write(chars, 0, chunk.length());
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * ClassName : ChannelSink <br>
+     * Description : Chunks encoded into a reused buffer and written to a {@link WritableByteChannel} <br>
+     * A surrogate pair split between two chunks is kept until the next chunk, so it's encoded whole. <br>
+     * Create Time : 2026-10-17 <br>
+     *
+     * @author jimmyblylee@126.com
+     */
+    static final class ChannelSink implements Sink {
+
+        private final WritableByteChannel channel;
+        private final CharsetEncoder encoder;
+        private final ByteBuffer bytes = ByteBuffer.allocateDirect(CHUNK);
+        /** The chars to encode, a char left over by the former chunk first. */
+        private CharBuffer chars = CharBuffer.allocate(CHUNK + 1);
+
+        ChannelSink(WritableByteChannel channel, CharsetEncoder encoder) {
+            this.channel = channel;
+            this.encoder = encoder;
+            this.chars.flip();
+        }
+
+        @Override
+        public void write(StringBuilder chunk) throws IOException {
+            chars.compact();
+            if (chars.remaining() < chunk.length()) {
+                final CharBuffer larger = CharBuffer.allocate(chars.position() + chunk.length());
+                chars.flip();
+                larger.put(chars);
+                chars = larger;
+            }
+            chunk.getChars(0, chunk.length(), chars.array(), chars.position());
+            chars.position(chars.position() + chunk.length());
+            chars.flip();
+            encode(false);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            writeBytes();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBytes();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private void encode(boolean endOfInput) throws IOException {
+            while (true) {
+                final CoderResult result = encoder.encode(chars, bytes, endOfInput);
+                if (result.isOverflow()) {
+                    writeBytes();
+                } else if (result.isError()) {
+                    result.throwException();
+                } else {
+                    writeBytes();
+                    return;
+                }
+            }
+        }
+
+        private void writeBytes() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+}
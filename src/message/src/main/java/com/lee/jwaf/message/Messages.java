@@ -19,15 +19,29 @@
 
 package com.lee.jwaf.message;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
-import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.lee.util.ObjectUtils;
 import com.lee.util.StringUtils;
@@ -37,6 +51,7 @@ import com.lee.util.StringUtils;
  * Description : International Message manager <br>
  * get the Locale by steps as below:
  * <ol>
+ * <li>find the local carried to the thread by a {@link LocaleContext}, not found then go to the next step</li>
  * <li>find the local by class com.lee.jwaf.context.ActionContext.getContext().getLocale(), not found then go to the
  * next step</li>
  * <li>find the local by system properties "application.language" and "application.country", not found then go to the
@@ -57,15 +72,49 @@ public enum Messages {
     protected static final String CNS_KEY_COUNTRY = "application.locale.country";
     /** Key of base name. */
     protected static final String CNS_KEY_BASE_NAME = "application.locale.basenames";
+    /** Key of the switch of the metrics, see {@link #getMetrics()}. */
+    protected static final String CNS_KEY_METRICS = "application.locale.metrics";
+    /** Key of the maximum number of cached bundles, see {@link #setCacheCapacity(int)}. */
+    protected static final String CNS_KEY_CACHE_CAPACITY = "application.locale.cache.capacity";
+    /** Default maximum number of cached bundles. */
+    protected static final int DEFAULT_CACHE_CAPACITY = 1024;
+    /** Minimum number of locales rendered by one task of {@code msgForLocales}. */
+    private static final int LOCALES_PER_TASK = 4;
 
-    /** Map&lt;baseName, Map&lt;locale.tolanguage(), ResourceBundle&gt;&gt;. */
-    private Map<String, Map<String, ResourceBundle>> resources = new HashMap<>();
+    /** Resolver of the request locale, looked up once, null if there is no ActionContext. */
+    private static volatile LocaleResolver localeResolver = ActionContextLocaleResolver.create();
+
+    /** Parsed value of {@link #CNS_KEY_BASE_NAME}, parsed again only when the value changes. */
+    private static volatile BaseNames baseNames = BaseNames.EMPTY;
+
+    /** Maximum number of cached bundles, and of cached merged indexes. */
+    private static volatile int cacheCapacity = Math.max(1,
+        Integer.getInteger(CNS_KEY_CACHE_CAPACITY, DEFAULT_CACHE_CAPACITY));
+
+    /** Map&lt;(baseName, locale), MessageBundle&gt;, reads never lock, the least recently used are evicted. */
+    private final ClockCache<BundleKey, MessageBundle> resources = new ClockCache<>(Messages::getCacheCapacity);
+
+    /** Watcher of the bundle files, null unless reloading is enabled by {@link #setReloadable(boolean)}. */
+    private volatile BundleWatcher watcher;
+
+    /** Where the bundles are loaded from, see {@link #setMessageSource(MessageSource)}. */
+    private volatile MessageSource source = MessageSource.classpath();
+
+    /** Whether bundles are loaded from binary catalogs when there are, see {@link #setCatalogs(boolean)}. */
+    private volatile boolean catalogs;
+
+    /** Increased each time loaded bundles are replaced or dropped, so {@link MessageAccessor}s bind again. */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /** Counters of lookups and loads, enabled by the system property {@link #CNS_KEY_METRICS} or by JMX. */
+    private final MessageMetrics metrics = new MessageMetrics(Boolean.getBoolean(CNS_KEY_METRICS));
 
     /**
      * Description : get the Locale by steps as below:
      * <ol>
-     * <li>find the local by class com.lee.jwaf.context.ActionContext.getContext().getLocale(), not found then go to the
-     * next step</li>
+     * <li>find the local bound to the thread by {@link LocaleContext#open()}, not found then go to the next step</li>
+     * <li>find the local by the {@link LocaleResolver}, by default class
+     * com.lee.jwaf.context.ActionContext.getContext().getLocale(), not found then go to the next step</li>
      * <li>find the local by system properties "application.language" and "application.country", not found then go to
      * the next step</li>
      * <li>find the local by {@code Local.getDefault()}</li>
@@ -76,40 +125,86 @@ public enum Messages {
      * @return the Locale
      */
     protected static Locale getLocale() {
-        Locale result;
-        try {
-            Class.forName("javax.servlet.http.HttpServletResponse");
-            final Class<?> context = Class.forName("com.lee.jwaf.context.ActionContext");
-            final Object instance = context.getMethod("getContext", new Class<?>[]{}).invoke(null);
-            result = (Locale) context.getMethod("getLocale", new Class<?>[]{}).invoke(instance);
-            if (ObjectUtils.isEmpty(result)) {
-                throw new Exception();
-            }
-            // CSOFF: IllegalCatch
-        } catch (Exception ex) {
-            // CSON: IllegalCatch
-            final String language = System.getProperty(CNS_KEY_LANGUAGE);
-            final String country = System.getProperty(CNS_KEY_COUNTRY);
-            if (language != null && !"".equalsIgnoreCase(language) && country != null
-                && !"".equalsIgnoreCase(country)) {
-                result = new Locale(language, country);
-            } else {
-                result = Locale.getDefault();
-            }
+        final Locale bound = LocaleContext.current();
+        if (bound != null) {
+            return bound;
         }
-        return result;
+        final LocaleResolver resolver = localeResolver;
+        final Locale result = resolver == null ? null : resolver.resolve();
+        if (!ObjectUtils.isEmpty(result)) {
+            return result;
+        }
+        final String language = System.getProperty(CNS_KEY_LANGUAGE);
+        final String country = System.getProperty(CNS_KEY_COUNTRY);
+        if (language != null && !"".equalsIgnoreCase(language) && country != null
+            && !"".equalsIgnoreCase(country)) {
+            return new Locale(language, country);
+        } else {
+            return Locale.getDefault();
+        }
+    }
+
+    /**
+     * Description : replace the resolver step of {@link #getLocale()}, by default the locale is resolved by
+     * com.lee.jwaf.context.ActionContext if it's available <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param resolver the resolver, null to restore the default one
+     */
+    public void setLocaleResolver(LocaleResolver resolver) {
+        localeResolver = resolver == null ? ActionContextLocaleResolver.create() : resolver;
     }
 
     /**
-     * Description : get base name from sytem properties, by key {@link #CNS_KEY_BASE_NAME} <br>
+     * Description : get base name from sytem properties, by key {@link #CNS_KEY_BASE_NAME}, the value is parsed only
+     * when it changes <br>
      * Create Time: 2016-09-24 <br>
      * Create by : jimmyblylee@126.com <br>
      *
-     * @return baseName set
+     * @return baseNames in declared order, shared, must not be modified
+     */
+    protected static String[] getBaseNames() {
+        return baseNames().getNames();
+    }
+
+    /**
+     * Description : get the current snapshot of {@link #CNS_KEY_BASE_NAME}, parse it again if the value changed <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the snapshot
+     */
+    private static BaseNames baseNames() {
+        final String value = System.getProperty(CNS_KEY_BASE_NAME);
+        BaseNames current = baseNames;
+        if (!current.isFor(value)) {
+            current = BaseNames.parse(value);
+            baseNames = current;
+        }
+        return current;
+    }
+
+    /**
+     * Description : set the base names searched by {@link #msg(String, Object[])}, same as setting the system property
+     * {@link #CNS_KEY_BASE_NAME} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param names the base names in search order, empty to clear
      */
-    protected static Set<String> getBaseNames() {
-        return System.getProperties().containsKey(CNS_KEY_BASE_NAME)
-            ? new HashSet<>(Arrays.asList(System.getProperty(CNS_KEY_BASE_NAME).split(","))) : new HashSet<>();
+    public void setBaseNames(String... names) {
+        if (ObjectUtils.isEmpty(names)) {
+            System.getProperties().remove(CNS_KEY_BASE_NAME);
+            baseNames = BaseNames.EMPTY;
+        } else {
+            final StringBuilder value = new StringBuilder();
+            for (String name : names) {
+                value.append(value.length() == 0 ? "" : ",").append(name);
+            }
+            System.setProperty(CNS_KEY_BASE_NAME, value.toString());
+            baseNames = BaseNames.parse(value.toString());
+        }
     }
 
     /**
@@ -120,28 +215,550 @@ public enum Messages {
      *
      * @param baseName bundle baseName
      * @param locale   the locale
+     * @return the resolved bundle
      * @throws NullPointerException     if the baseName or the locale is empty
      * @throws MissingResourceException if no resource bundle for the specified base name can be found
      */
-    private void createBundleIfNessary(String baseName, Locale locale) throws NullPointerException,
-            MissingResourceException {
+    private MessageBundle createBundleIfNessary(final String baseName, final Locale locale)
+            throws NullPointerException, MissingResourceException {
         if (ObjectUtils.isEmpty(locale) || StringUtils.isEmpty(baseName)) {
             throw new NullPointerException(
                 "illegal argument for createBundleIfNessary, baseName, locale should not be null");
         }
-        if (!resources.containsKey(baseName) || !resources.get(baseName).containsKey(locale.toLanguageTag())) {
-            synchronized (Msg) {
-                if (!resources.containsKey(baseName) || !resources.get(baseName).containsKey(locale.toLanguageTag())) {
-                    if (!resources.containsKey(baseName)) {
-                        resources.put(baseName, new HashMap<>());
+        final BundleKey key = new BundleKey(baseName, locale);
+        final MessageBundle bundle = resources.get(key);
+        if (bundle != null) {
+            return bundle;
+        }
+        if (source != MessageSource.classpath()) {
+            return resources.computeIfAbsent(key, this::loadBundle);
+        }
+        // equivalent locales share the bundle of the resolved one, the key is kept as an alias of it
+        final BundleKey resolved = resolve(key);
+        // only the loading of the same (baseName, locale) waits, MissingResourceException leaves no entry
+        MessageBundle created = resources.computeIfAbsent(resolved, this::loadBundle);
+        if (resolved != key) {
+            created = resources.putIfAbsent(key, created);
+        }
+        final BundleWatcher current = watcher;
+        if (current != null) {
+            current.watch(key, Messages.class.getClassLoader());
+        }
+        return created;
+    }
+
+    /**
+     * Description : resolve the key of the bundle actually loaded for a key, see {@link LocaleChain} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key the key
+     * @return the resolved key, the same instance if the locale is its own
+     */
+    private BundleKey resolve(BundleKey key) {
+        final Locale resolved = LocaleChain.of(key.getLocale()).resolve(key.getBaseName() + "-messages",
+            Messages.class.getClassLoader(), catalogs);
+        return resolved.equals(key.getLocale()) ? key : new BundleKey(key.getBaseName(), resolved);
+    }
+
+    /**
+     * Description : load the bundle of a key from the current files <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key the key
+     * @return the bundle
+     * @throws MissingResourceException if no resource bundle for the specified base name can be found
+     */
+    private MessageBundle loadBundle(BundleKey key) throws MissingResourceException {
+        final long start = System.nanoTime();
+        final MessageBundle bundle = new MessageBundle(key, loadStore(key), metrics.scope(key.toString()));
+        bundle.getScope().loaded(System.nanoTime() - start);
+        return bundle;
+    }
+
+    /**
+     * Description : load the codes of a key from the message source, or from the current files by default, a binary
+     * catalog first if it's enabled <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param key the key
+     * @return the store
+     * @throws MissingResourceException if no resource bundle for the specified base name can be found
+     */
+    private MessageStore loadStore(BundleKey key) throws MissingResourceException {
+        final MessageSource current = source;
+        if (current != MessageSource.classpath()) {
+            return CompactMessageStore.of(current.load(key.getBaseName(), key.getLocale()));
+        }
+        final String bundleName = key.getBaseName() + "-messages";
+        if (catalogs) {
+            try {
+                final MessageCatalog catalog = MessageCatalog.find(bundleName, key.getLocale(),
+                    Messages.class.getClassLoader());
+                if (catalog != null) {
+                    return catalog;
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("failed to read the catalog of " + key, ex);
+            }
+        }
+        return CompactMessageStore.of(BundleLoader.load(bundleName, key.getLocale(), Messages.class.getClassLoader()));
+    }
+
+    /**
+     * Description : set where the bundles are loaded from, by default the properties files on the class path <br>
+     * The loaded bundles are dropped, so they are loaded again from the new source. Each (baseName, locale) bundle is
+     * loaded once and lookups never reach the source; when the source reports a changed base name, its bundles are
+     * loaded again and replace the old ones atomically. Catalogs, reloading of files and the sharing of a bundle by
+     * equivalent locales only apply to the default source. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param messageSource the source, null to restore the default one
+     */
+    public synchronized void setMessageSource(MessageSource messageSource) {
+        final MessageSource next = messageSource == null ? MessageSource.classpath() : messageSource;
+        final MessageSource previous = source;
+        if (previous == next) {
+            return;
+        }
+        previous.setListener(null);
+        source = next;
+        resources.clear();
+        baseNames = baseNames.renew();
+        generation.incrementAndGet();
+        next.setListener(this::reload);
+    }
+
+    /**
+     * Description : enable or disable loading from binary catalogs <br>
+     * When enabled, a bundle is loaded from the {@code <baseName>-messages*.catalog} compiled by
+     * {@link CatalogCompiler} next to the properties files, found by the same locale fallback as the properties. A
+     * catalog file is memory mapped, so its codes and patterns stay out of the heap and only the patterns in use are
+     * decoded. A bundle without catalog is still loaded from its properties files. The loaded bundles are dropped, so
+     * they are loaded again in the new mode. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param enabled true to load from binary catalogs
+     */
+    public synchronized void setCatalogs(boolean enabled) {
+        if (catalogs != enabled) {
+            catalogs = enabled;
+            resources.clear();
+            baseNames = baseNames.renew();
+            generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * Description : set the maximum number of cached bundles, the same maximum applies to the merged indexes of
+     * {@link #msg(String, Object[])}, one per locale. The least recently used ones are evicted first and loaded again
+     * if they are used again, so junk locales can't fill the memory. By default it's
+     * {@value #DEFAULT_CACHE_CAPACITY}, or the system property {@link #CNS_KEY_CACHE_CAPACITY}. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param capacity the maximum number of bundles
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public void setCacheCapacity(int capacity) throws IllegalArgumentException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("illegal argument for setCacheCapacity, capacity should be positive");
+        }
+        cacheCapacity = capacity;
+        resources.sweep();
+        baseNames.sweep();
+    }
+
+    /**
+     * @return the maximum number of cached bundles
+     */
+    public static int getCacheCapacity() {
+        return cacheCapacity;
+    }
+
+    /**
+     * Description : enable or disable reloading of changed bundle files <br>
+     * When enabled, the directories of the loaded {@code <baseName>-messages*.properties} files are watched, changed
+     * bundles are parsed again in background and each new bundle replaces the old one with one atomic put, lookups
+     * never wait and never see a bundle half loaded. Only bundles loaded from the file system can be reloaded. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param reloadable true to enable reloading
+     * @throws UncheckedIOException if the file system can not be watched
+     */
+    public synchronized void setReloadable(boolean reloadable) throws UncheckedIOException {
+        try {
+            if (reloadable && watcher == null) {
+                final BundleWatcher created = new BundleWatcher(this::reload);
+                for (BundleKey key : resources.keySet()) {
+                    created.watch(key, Messages.class.getClassLoader());
+                }
+                watcher = created;
+            } else if (!reloadable && watcher != null) {
+                watcher.close();
+                watcher = null;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Description : parse again all the loaded bundles of a base name and publish them, then drop the merged indexes
+     * <br>
+     * A bundle which fails to load keeps its loaded version and the other ones are still reloaded; the merged indexes
+     * are dropped in any case, then the first failure is thrown. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName the base name
+     * @throws RuntimeException the first failure of a bundle, e.g. a corrupted catalog
+     */
+    private void reload(String baseName) throws RuntimeException {
+        RuntimeException failure = null;
+        try {
+            for (BundleKey key : resources.keySet()) {
+                if (key.getBaseName().equals(baseName)) {
+                    final MessageBundle bundle = resources.get(key);
+                    if (bundle != null && !bundle.getKey().equals(key)) {
+                        // an alias, resolved again at its next use since a new file may change its resolution
+                        resources.remove(key);
+                        continue;
                     }
-                    if (!resources.get(baseName).containsKey(locale.toLanguageTag())) {
-                        resources.get(baseName).put(locale.toLanguageTag(),
-                            ResourceBundle.getBundle(baseName + "-messages", locale));
+                    try {
+                        resources.replace(key, loadBundle(key));
+                    } catch (MissingResourceException ex) {
+                        // keep the loaded one
+                    } catch (RuntimeException ex) {
+                        // keep the loaded one too, and go on with the other locales
+                        if (failure == null) {
+                            failure = ex;
+                        } else {
+                            failure.addSuppressed(ex);
+                        }
                     }
                 }
             }
+        } finally {
+            baseNames = baseNames.renew();
+            generation.incrementAndGet();
         }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Description : get the merged index of all the configured bundles of a locale, the bundles are loaded and merged
+     * at the first use of the locale <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locale the locale
+     * @return the index
+     * @throws MissingResourceException if no resource bundle for any of the base names can be found
+     */
+    private MessageIndex createIndexIfNessary(Locale locale) throws MissingResourceException {
+        return createIndexIfNessary(baseNames(), locale);
+    }
+
+    /**
+     * Description : get the merged index of the bundles of a base names snapshot for a locale, see
+     * {@link #loadBundles(String[], Locale)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param current the base names
+     * @param locale  the locale
+     * @return the index
+     * @throws MissingResourceException if no resource bundle for any of the base names can be found
+     */
+    private MessageIndex createIndexIfNessary(BaseNames current, Locale locale) throws MissingResourceException {
+        final MessageIndex index = current.getIndex(locale);
+        if (index != null) {
+            return index;
+        }
+        final String[] names = current.getNames();
+        final MessageBundle[] bundles = loadBundles(names, locale);
+        final Locale resolved = resolvedLocale(bundles, locale);
+        if (resolved.equals(locale)) {
+            return current.putIndex(locale, newIndex(names, bundles, locale));
+        }
+        // all the bundles resolved to the same locale, the index of that locale is shared too
+        MessageIndex shared = current.getIndex(resolved);
+        if (shared == null) {
+            shared = current.putIndex(resolved, newIndex(names, bundles, resolved));
+        }
+        return current.putIndex(locale, shared);
+    }
+
+    /**
+     * Description : get the bundles of some base names for a locale, in base name order; a base name without a bundle
+     * for the locale is skipped, so a code is still found in the bundles of the other base names <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param names  the base names
+     * @param locale the locale
+     * @return the bundles found
+     * @throws MissingResourceException if no resource bundle for any of the base names can be found
+     */
+    private MessageBundle[] loadBundles(String[] names, Locale locale) throws MissingResourceException {
+        final List<MessageBundle> bundles = new ArrayList<>(names.length);
+        MissingResourceException missing = null;
+        for (String name : names) {
+            try {
+                bundles.add(createBundleIfNessary(name, locale));
+            } catch (MissingResourceException ex) {
+                if (missing == null) {
+                    missing = ex;
+                }
+            }
+        }
+        if (bundles.isEmpty() && missing != null) {
+            throw missing;
+        }
+        return bundles.toArray(new MessageBundle[bundles.size()]);
+    }
+
+    /**
+     * Description : get the locale all the bundles were resolved to <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param bundles the bundles
+     * @param locale  the requested locale
+     * @return the common resolved locale, or the requested one if they differ
+     */
+    private static Locale resolvedLocale(MessageBundle[] bundles, Locale locale) {
+        if (bundles.length == 0) {
+            return locale;
+        }
+        final Locale resolved = bundles[0].getKey().getLocale();
+        for (MessageBundle bundle : bundles) {
+            if (!bundle.getKey().getLocale().equals(resolved)) {
+                return locale;
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Description : get an accessor of the messages of all the configured base names for a locale, the locale and the
+     * base names are resolved once, see {@link MessageAccessor} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locale the locale
+     * @return the accessor
+     * @throws NullPointerException     if the locale is empty
+     * @throws MissingResourceException if no resource bundle for any of the base names can be found
+     */
+    public MessageAccessor forLocale(Locale locale) throws NullPointerException, MissingResourceException {
+        if (ObjectUtils.isEmpty(locale)) {
+            throw new NullPointerException("illegal argument for forLocale, locale should not be null");
+        }
+        return new MessageAccessor(null, getBaseNames(), locale);
+    }
+
+    /**
+     * Description : get an accessor of the messages of one bundle, the bundle is resolved once, see
+     * {@link MessageAccessor} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName the bundle base name
+     * @param locale   the locale
+     * @return the accessor
+     * @throws NullPointerException     if the baseName or the locale is empty
+     * @throws MissingResourceException if no resource bundle for the specified base name can be found
+     */
+    public MessageAccessor bundle(String baseName, Locale locale)
+            throws NullPointerException, MissingResourceException {
+        return new MessageAccessor(baseName, null, locale);
+    }
+
+    /**
+     * @return the number of times loaded bundles were replaced or dropped
+     */
+    int getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Description : get a bundle <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName the bundle base name
+     * @param locale   the locale
+     * @return the bundle
+     * @throws NullPointerException     if the baseName or the locale is empty
+     * @throws MissingResourceException if no resource bundle for the specified base name can be found
+     */
+    MessageBundle getBundle(String baseName, Locale locale) throws NullPointerException, MissingResourceException {
+        return createBundleIfNessary(baseName, locale);
+    }
+
+    /**
+     * Description : get the merged index of the bundles of some base names, the cached index is used if they are the
+     * configured ones <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param names  the base names, as returned by {@link #getBaseNames()}
+     * @param locale the locale
+     * @return the index
+     * @throws MissingResourceException if no resource bundle for any of the base names can be found
+     */
+    MessageIndex getIndex(String[] names, Locale locale) throws MissingResourceException {
+        final BaseNames current = baseNames();
+        if (current.getNames() == names) {
+            return createIndexIfNessary(current, locale);
+        }
+        return newIndex(names, loadBundles(names, locale), locale);
+    }
+
+    private MessageIndex newIndex(String[] names, MessageBundle[] bundles, Locale locale) {
+        return new MessageIndex(bundles, metrics.scope(String.join(",", names) + "[" + locale.toLanguageTag() + "]"));
+    }
+
+    /**
+     * Description : get the metrics of lookups and bundle loads, also registered as the MXBean
+     * {@value MessagesMXBean#OBJECT_NAME} once enabled. They are disabled unless the system property
+     * {@link #CNS_KEY_METRICS} is true, disabled metrics cost a flag read per lookup. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @return the metrics
+     */
+    public MessagesMXBean getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Description : unregister the MXBean of the metrics, to be called when the application stops, e.g. by
+     * {@code ServletContextListener#contextDestroyed}, so the server doesn't keep its class loader; enabling the
+     * metrics again registers it again <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    public void unregisterMetrics() {
+        metrics.unregister();
+    }
+
+    /**
+     * Description : load the bundles of all the base names of {@link #CNS_KEY_BASE_NAME} for the given locales on the
+     * common fork-join pool, see {@link #preload(ForkJoinPool, Collection, boolean)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locales the locales
+     * @param compile true to compile all the templates as well
+     * @return the report
+     * @throws NullPointerException if the locales are empty or one of them is null
+     */
+    public PreloadReport preload(Collection<Locale> locales, boolean compile) throws NullPointerException {
+        return preload(ForkJoinPool.commonPool(), locales, compile);
+    }
+
+    /**
+     * Description : load the bundles of all the base names of {@link #CNS_KEY_BASE_NAME} for the given locales, so the
+     * first requests don't pay for it <br>
+     * Each (baseName, locale) bundle is loaded by its own task on the pool, then the merged index of each locale is
+     * built. When {@code compile} is true the templates of the bundles and of the indexes are compiled as well, for
+     * the current default format locale. A missing bundle or an invalid pattern doesn't stop the others, it's listed
+     * in {@link PreloadReport#getFailures()}. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param pool    the pool which runs the tasks
+     * @param locales the locales
+     * @param compile true to compile all the templates as well
+     * @return the report
+     * @throws NullPointerException if the pool or the locales are empty or one of the locales is null
+     */
+    public PreloadReport preload(ForkJoinPool pool, Collection<Locale> locales, boolean compile)
+            throws NullPointerException {
+        if (pool == null || ObjectUtils.isEmpty(locales) || locales.contains(null)) {
+            throw new NullPointerException("illegal argument for preload, pool, locales should not be null");
+        }
+        final long start = System.nanoTime();
+        final Set<Locale> distinct = new LinkedHashSet<>(locales);
+        final String[] names = getBaseNames();
+        final LongAdder bundles = new LongAdder();
+        final LongAdder entries = new LongAdder();
+        final LongAdder templates = new LongAdder();
+        final Set<Locale> incomplete = ConcurrentHashMap.newKeySet();
+        final Collection<String> failures = new ConcurrentLinkedQueue<>();
+
+        final List<ForkJoinTask<?>> loads = new ArrayList<>();
+        for (Locale locale : distinct) {
+            for (String name : names) {
+                loads.add(pool.submit(() -> {
+                    final MessageStore store;
+                    try {
+                        store = createBundleIfNessary(name, locale).getStore();
+                    } catch (MissingResourceException ex) {
+                        incomplete.add(locale);
+                        failures.add(new BundleKey(name, locale) + ": " + ex.getMessage());
+                        return;
+                    }
+                    bundles.increment();
+                    entries.add(store.size());
+                    if (compile) {
+                        final List<String> invalid = new ArrayList<>();
+                        templates.add(store.compile(invalid));
+                        for (String pattern : invalid) {
+                            failures.add(new BundleKey(name, locale) + " " + pattern);
+                        }
+                    }
+                }));
+            }
+        }
+        loads.forEach(ForkJoinTask::join);
+
+        final List<ForkJoinTask<?>> indexes = new ArrayList<>();
+        for (Locale locale : distinct) {
+            if (names.length > 0 && !incomplete.contains(locale)) {
+                indexes.add(pool.submit(() -> {
+                    final MessageStore store = createIndexIfNessary(locale).getStore();
+                    if (compile) {
+                        // invalid patterns are already listed by the bundles which have them
+                        templates.add(store.compile(new ArrayList<>()));
+                    }
+                }));
+            }
+        }
+        indexes.forEach(ForkJoinTask::join);
+
+        return new PreloadReport(distinct.size(), bundles.intValue(), entries.sum(), templates.sum(),
+            System.nanoTime() - start, new ArrayList<>(failures));
+    }
+
+    /**
+     * Description : validate the properties files of all the base names of {@link #CNS_KEY_BASE_NAME} for the given
+     * locales, their parent and fallback locales included, see {@link CatalogValidator} <br>
+     * The patterns are compiled on the common fork-join pool. The files are read from the class path, the bundles
+     * already loaded and the message source are left as they are. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param locales the locales
+     * @return the report
+     * @throws NullPointerException if the locales are empty or one of them is null
+     */
+    public ValidationReport validate(Collection<Locale> locales) throws NullPointerException {
+        if (ObjectUtils.isEmpty(locales) || locales.contains(null)) {
+            throw new NullPointerException("illegal argument for validate, locales should not be null");
+        }
+        return CatalogValidator.validate(ForkJoinPool.commonPool(), Messages.class.getClassLoader(), getBaseNames(),
+            new LinkedHashSet<>(locales));
     }
 
     /**
@@ -168,19 +785,22 @@ public enum Messages {
             throw new NullPointerException(
                 "illegal argument for msg, code, baseName, defaultMessage, locale should not be null");
         }
-        createBundleIfNessary(baseName, locale);
-        if (!resources.get(baseName).get(locale.toLanguageTag()).containsKey(code)) {
+        final MessageBundle bundle = createBundleIfNessary(baseName, locale);
+        final MessageStore store = bundle.getStore();
+        final int slot = store.indexOf(code);
+        if (slot < 0) {
+            bundle.getScope().defaulted(code);
             if (ObjectUtils.isEmpty(args)) {
                 result = defaultMessage;
             } else {
                 result = MessageFormat.format(defaultMessage, args);
             }
         } else {
+            bundle.getScope().hit(code);
             if (ObjectUtils.isEmpty(args)) {
-                result = resources.get(baseName).get(locale.toLanguageTag()).getString(code);
+                result = store.pattern(slot);
             } else {
-                result = MessageFormat.format(resources.get(baseName).get(locale.toLanguageTag()).getString(code),
-                    args);
+                result = store.format(slot, args);
             }
         }
         return result;
@@ -206,16 +826,8 @@ public enum Messages {
             throw new NullPointerException(
                 "illegal argument for msg, code, baseName, defaultMessage, locale should not be null");
         }
-        createBundleIfNessary(baseName, locale);
-        if (!resources.get(baseName).get(locale.toLanguageTag()).containsKey(code)) {
-            throw new NoSuchMessageException(code);
-        } else {
-            if (ObjectUtils.isEmpty(args)) {
-                return resources.get(baseName).get(locale.toLanguageTag()).getString(code);
-            } else {
-                return MessageFormat.format(resources.get(baseName).get(locale.toLanguageTag()).getString(code), args);
-            }
-        }
+        final MessageBundle bundle = createBundleIfNessary(baseName, locale);
+        return msgOf(bundle.getStore(), bundle.getScope(), code, args, locale);
     }
 
     /**
@@ -248,14 +860,12 @@ public enum Messages {
      * @throws NoSuchMessageException if it can not find the message by given code in target bundle
      */
     public String msg(String code, Object[] args) throws NullPointerException, NoSuchMessageException {
-        for (String baseName : getBaseNames()) {
-            try {
-                return msg(baseName, code, args, getLocale());
-            } catch (NoSuchMessageException ex) {
-                // ignore
-            }
+        if (StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for msg, code should not be null");
         }
-        throw new NoSuchMessageException(code);
+        final Locale locale = getLocale();
+        final MessageIndex index = createIndexIfNessary(locale);
+        return msgOf(index.getStore(), index.getScope(), code, args, locale);
     }
 
     /**
@@ -273,4 +883,610 @@ public enum Messages {
     public String msg(String code) throws NullPointerException, NoSuchMessageException {
         return msg(code, null);
     }
+
+    /**
+     * Description : get message of one argument, same result as {@link #msg(String, Object[])} without the array
+     * <br>
+     * The arity overloads let a call site pass up to four arguments with no {@code Object[]}, and a plain pattern
+     * writes them straight into the result. An array argument, or a {@code null} literal, selects the
+     * {@code Object[]} overload as usual; cast it to {@code Object} to pass it as one argument. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundle
+     * @param a0   the argument 0
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public String msg(String code, Object a0) throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 1, a0, null, null, null);
+    }
+
+    /**
+     * Description : get message of two arguments, see {@link #msg(String, Object)} <br>
+     * A string followed by a {@code null} literal or an array selects {@link #msg(String, String, Object[])}, cast
+     * the last one to {@code Object}. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundle
+     * @param a0   the argument 0
+     * @param a1   the argument 1
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public String msg(String code, Object a0, Object a1) throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 2, a0, a1, null, null);
+    }
+
+    /**
+     * Description : get message of three arguments, see {@link #msg(String, Object)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundle
+     * @param a0   the argument 0
+     * @param a1   the argument 1
+     * @param a2   the argument 2
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public String msg(String code, Object a0, Object a1, Object a2)
+            throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 3, a0, a1, a2, null);
+    }
+
+    /**
+     * Description : get message of four arguments, see {@link #msg(String, Object)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundle
+     * @param a0   the argument 0
+     * @param a1   the argument 1
+     * @param a2   the argument 2
+     * @param a3   the argument 3
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public String msg(String code, Object a0, Object a1, Object a2, Object a3)
+            throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 4, a0, a1, a2, a3);
+    }
+
+    /**
+     * Description : get message of one integral argument, same result as {@link #msg(String, Object[])} of its boxed
+     * value <br>
+     * An {@code int} argument selects it too; a plain pattern writes the digits in the format of the locale with no
+     * boxing and no {@link java.text.NumberFormat}. A {@code char} argument selects {@link #msg(String, char)}. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundle
+     * @param a0   the argument 0
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public String msg(String code, long a0) throws NullPointerException, NoSuchMessageException {
+        if (StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for msg, code should not be null");
+        }
+        final Locale locale = getLocale();
+        final MessageIndex index = createIndexIfNessary(locale);
+        final MessageStore store = index.getStore();
+        return store.format(slotOf(store, index.getScope(), code, locale), a0);
+    }
+
+    /**
+     * Description : get message of one character argument, same result as {@link #msg(String, Object[])} of its boxed
+     * value; without it a {@code char} would widen to {@link #msg(String, long)} and be formated as a number <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundle
+     * @param a0   the argument 0
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public String msg(String code, char a0) throws NullPointerException, NoSuchMessageException {
+        return msgWith(code, 1, a0, null, null, null);
+    }
+
+    /**
+     * Description : get a message formated only when it's read, by default locale logic with {@link #getLocale()} at
+     * that time, and default bundle base name logic with {@link Messages#getBaseNames()}, see
+     * {@link LocalizedMessage} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code the code in the bundle
+     * @param args the arguments, not copied
+     * @return the lazy message
+     * @throws NullPointerException if the code is empty
+     */
+    public LocalizedMessage localized(String code, Object[] args) throws NullPointerException {
+        return localized(null, code, args, null);
+    }
+
+    /**
+     * Description : get a message formated only when it's read, see {@link LocalizedMessage} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName the bundle base name, null for the configured base names
+     * @param code     the code in the bundle
+     * @param args     the arguments, not copied
+     * @param locale   the locale, null for the locale of the thread which reads it
+     * @return the lazy message
+     * @throws NullPointerException if the code is empty
+     */
+    public LocalizedMessage localized(String baseName, String code, Object[] args, Locale locale)
+            throws NullPointerException {
+        if (StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for localized, code should not be null");
+        }
+        return new LocalizedMessage(StringUtils.isEmpty(baseName) ? null : baseName, code, args, locale);
+    }
+
+    /**
+     * Description : format a lazy message in a locale <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param message the lazy message
+     * @param locale  the locale
+     * @return the formated message
+     * @throws NoSuchMessageException   if there is no such code, the exception carries the lazy message
+     * @throws MissingResourceException if no resource bundle can be found
+     */
+    String render(LocalizedMessage message, Locale locale) throws NoSuchMessageException, MissingResourceException {
+        final MessageStore store;
+        final MessageMetrics.Scope scope;
+        if (message.getBaseName() == null) {
+            final MessageIndex index = createIndexIfNessary(locale);
+            store = index.getStore();
+            scope = index.getScope();
+        } else {
+            final MessageBundle bundle = createBundleIfNessary(message.getBaseName(), locale);
+            store = bundle.getStore();
+            scope = bundle.getScope();
+        }
+        final int slot = store.indexOf(message.getCode());
+        if (slot < 0) {
+            scope.miss(message.getCode());
+            throw new NoSuchMessageException(message, locale, false);
+        }
+        scope.hit(message.getCode());
+        return ObjectUtils.isEmpty(message.getArgs()) ? store.pattern(slot) : store.format(slot, message.getArgs());
+    }
+
+    /**
+     * Description : get message of up to four arguments by default locale and base names <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param code  the code in the bundle
+     * @param count the number of arguments
+     * @param a0    the argument 0
+     * @param a1    the argument 1
+     * @param a2    the argument 2
+     * @param a3    the argument 3
+     * @return the formated message
+     * @throws NullPointerException   if the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    private String msgWith(String code, int count, Object a0, Object a1, Object a2, Object a3)
+            throws NullPointerException, NoSuchMessageException {
+        if (StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for msg, code should not be null");
+        }
+        final Locale locale = getLocale();
+        final MessageIndex index = createIndexIfNessary(locale);
+        final MessageStore store = index.getStore();
+        return store.format(slotOf(store, index.getScope(), code, locale), count, a0, a1, a2, a3);
+    }
+
+    /**
+     * Description : get messages of many codes at once, same results as {@link #msg(String, Object[])} for each code
+     * <br>
+     * The locale is resolved and the bundles are looked up once for the whole batch. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param codes the codes in the bundles
+     * @param args  the arguments of each code, same length as the codes, or null if there is no argument at all
+     * @return the formated messages, in the order of the codes
+     * @throws NullPointerException     if the codes or one of them is empty
+     * @throws IllegalArgumentException if the arguments are not of the same length as the codes
+     * @throws NoSuchMessageException   if it can not find the message by one of the codes
+     */
+    public String[] msgAll(String[] codes, Object[][] args)
+            throws NullPointerException, IllegalArgumentException, NoSuchMessageException {
+        if (codes == null) {
+            throw new NullPointerException("illegal argument for msgAll, codes should not be null");
+        }
+        if (args != null && args.length != codes.length) {
+            throw new IllegalArgumentException("illegal argument for msgAll, " + args.length + " arguments for "
+                + codes.length + " codes");
+        }
+        final Locale locale = getLocale();
+        final MessageIndex index = createIndexIfNessary(locale);
+        final String[] result = new String[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            if (StringUtils.isEmpty(codes[i])) {
+                throw new NullPointerException("illegal argument for msgAll, code should not be null");
+            }
+            result[i] = msgOf(index.getStore(), index.getScope(), codes[i], args == null ? null : args[i],
+                locale);
+        }
+        return result;
+    }
+
+    /**
+     * Description : get messages of many codes at once, same results as {@link #msg(String, Object[])} for each code
+     * <br>
+     * The locale is resolved and the bundles are looked up once for the whole batch. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param messages Map&lt;code, arguments&gt;, the arguments may be null
+     * @return Map&lt;code, formated message&gt;, in the iteration order of the given map
+     * @throws NullPointerException   if the messages or one of the codes is empty
+     * @throws NoSuchMessageException if it can not find the message by one of the codes
+     */
+    public Map<String, String> msgAll(Map<String, Object[]> messages)
+            throws NullPointerException, NoSuchMessageException {
+        if (messages == null) {
+            throw new NullPointerException("illegal argument for msgAll, messages should not be null");
+        }
+        final Locale locale = getLocale();
+        final MessageIndex index = createIndexIfNessary(locale);
+        final Map<String, String> result = new LinkedHashMap<>(messages.size() * 4 / 3 + 1);
+        for (Map.Entry<String, Object[]> message : messages.entrySet()) {
+            if (StringUtils.isEmpty(message.getKey())) {
+                throw new NullPointerException("illegal argument for msgAll, code should not be null");
+            }
+            result.put(message.getKey(), msgOf(index.getStore(), index.getScope(), message.getKey(),
+                message.getValue(), locale));
+        }
+        return result;
+    }
+
+    /**
+     * Description : get the message of a code for many locales at once on the common fork-join pool, see
+     * {@link #msgForLocales(Executor, String, String, Object[], Collection)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName bundle baseName
+     * @param code     the code in the bundle
+     * @param args     the arguments
+     * @param locales  the locales
+     * @return Map&lt;locale, formated message&gt;, in the order of the locales
+     * @throws NullPointerException     if the baseName, the code or the locales are empty or one locale is null
+     * @throws MissingResourceException if no resource bundle can be found for one of the locales
+     * @throws NoSuchMessageException   if it can not find the message by given code for one of the locales
+     */
+    public Map<Locale, String> msgForLocales(String baseName, String code, Object[] args, Collection<Locale> locales)
+            throws NullPointerException, MissingResourceException, NoSuchMessageException {
+        return msgForLocales(ForkJoinPool.commonPool(), baseName, code, args, locales);
+    }
+
+    /**
+     * Description : get the message of a code for many locales at once, same results as
+     * {@link #msg(String, String, Object[], Locale)} for each locale <br>
+     * The locales are dealt in stripes to at most as many tasks as the executor has threads, a few locales per task,
+     * and the calling thread renders one stripe itself. Bundles not loaded yet are loaded by the tasks concurrently.
+     * If the message fails for several locales, one of the failures is thrown once all the tasks are done. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param executor runs the tasks, the parallelism of a {@link ForkJoinPool} is used, or the number of processors
+     * @param baseName bundle baseName
+     * @param code     the code in the bundle
+     * @param args     the arguments
+     * @param locales  the locales, duplicates are rendered once
+     * @return Map&lt;locale, formated message&gt;, in the order of the locales
+     * @throws NullPointerException     if the executor, the baseName, the code or the locales are empty or one locale
+     *                                  is null
+     * @throws MissingResourceException if no resource bundle can be found for one of the locales
+     * @throws NoSuchMessageException   if it can not find the message by given code for one of the locales
+     */
+    public Map<Locale, String> msgForLocales(Executor executor, String baseName, String code, Object[] args,
+                                             Collection<Locale> locales)
+            throws NullPointerException, MissingResourceException, NoSuchMessageException {
+        if (executor == null || StringUtils.isEmpty(baseName) || StringUtils.isEmpty(code)
+            || ObjectUtils.isEmpty(locales) || locales.contains(null)) {
+            throw new NullPointerException(
+                "illegal argument for msgForLocales, executor, baseName, code, locales should not be null");
+        }
+        final Locale[] distinct = new LinkedHashSet<>(locales).toArray(new Locale[0]);
+        final String[] results = new String[distinct.length];
+        final int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+        final int tasks = Math.max(1, Math.min(parallelism,
+            (distinct.length + LOCALES_PER_TASK - 1) / LOCALES_PER_TASK));
+        final List<CompletableFuture<Void>> forked = new ArrayList<>(tasks - 1);
+        for (int i = 1; i < tasks; i++) {
+            final int first = i;
+            forked.add(CompletableFuture.runAsync(
+                () -> msgForStripe(baseName, code, args, distinct, results, first, tasks), executor));
+        }
+        RuntimeException failure = null;
+        try {
+            msgForStripe(baseName, code, args, distinct, results, 0, tasks);
+        } catch (RuntimeException ex) {
+            failure = ex;
+        }
+        for (CompletableFuture<Void> task : forked) {
+            try {
+                task.join();
+            } catch (CompletionException ex) {
+                if (failure == null) {
+                    failure = ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        final Map<Locale, String> result = new LinkedHashMap<>(distinct.length * 4 / 3 + 1);
+        for (int i = 0; i < distinct.length; i++) {
+            result.put(distinct[i], results[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Description : render the message for every {@code step}-th locale from {@code first} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param baseName bundle baseName
+     * @param code     the code in the bundle
+     * @param args     the arguments
+     * @param locales  all the locales
+     * @param results  receives the message of each locale at its index
+     * @param first    the first index of the stripe
+     * @param step     the number of stripes
+     */
+    private void msgForStripe(String baseName, String code, Object[] args, Locale[] locales, String[] results,
+                              int first, int step) {
+        for (int i = first; i < locales.length; i += step) {
+            final MessageBundle bundle = createBundleIfNessary(baseName, locales[i]);
+            results[i] = msgOf(bundle.getStore(), bundle.getScope(), code, args, locales[i]);
+        }
+    }
+
+    /**
+     * Description : get the message of a code in a store <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param store  the store
+     * @param scope  the metrics of the store
+     * @param code   the code
+     * @param args   the arguments
+     * @param locale the locale, for the exception
+     * @return the formated message
+     * @throws NoSuchMessageException if there is no such code in the store
+     */
+    static String msgOf(MessageStore store, MessageMetrics.Scope scope, String code, Object[] args, Locale locale)
+            throws NoSuchMessageException {
+        final int slot = slotOf(store, scope, code, locale);
+        if (ObjectUtils.isEmpty(args)) {
+            return store.pattern(slot);
+        } else {
+            return store.format(slot, args);
+        }
+    }
+
+    /**
+     * Description : resolve a code in a store and count the hit or the miss <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param store  the store
+     * @param scope  the metrics of the store
+     * @param code   the code
+     * @param locale the locale, for the exception
+     * @return the slot of the code
+     * @throws NoSuchMessageException if there is no such code in the store
+     */
+    static int slotOf(MessageStore store, MessageMetrics.Scope scope, String code, Locale locale)
+            throws NoSuchMessageException {
+        final int slot = store.indexOf(code);
+        if (slot < 0) {
+            scope.miss(code);
+            throw new NoSuchMessageException(code, locale, false);
+        }
+        scope.hit(code);
+        return slot;
+    }
+
+    /**
+     * Description : append a message from bundles to the target, same result as
+     * {@link #msg(String, String, Object[], Locale)} without the result string <br>
+     * A pattern without typed sub-formats is written piece by piece, nothing is allocated for string arguments. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target   the target
+     * @param baseName the bundle base name
+     * @param code     the code in the bundle
+     * @param args     the arguments for the formated string (wich will formated by {@link MessageFormat#format(Object)}
+     * @param locale   the locale
+     * @return the target
+     * @throws IOException            if the target fails
+     * @throws NullPointerException   if the target, baseNmae, code or the locale is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public Appendable append(Appendable target, String baseName, String code, Object[] args, Locale locale)
+            throws IOException, NullPointerException, NoSuchMessageException {
+        if (target == null || ObjectUtils.isEmpty(locale) || StringUtils.isEmpty(baseName)
+            || StringUtils.isEmpty(code)) {
+            throw new NullPointerException(
+                "illegal argument for append, target, code, baseName, locale should not be null");
+        }
+        final MessageBundle bundle = createBundleIfNessary(baseName, locale);
+        appendTo(target, bundle.getStore(), bundle.getScope(), code, args, locale);
+        return target;
+    }
+
+    /**
+     * Description : append a message from bundles to the target, same result as {@link #msg(String, Object[])}
+     * without the result string <br>
+     * A pattern without typed sub-formats is written piece by piece, nothing is allocated for string arguments. <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param code   the code in the bundle
+     * @param args   the arguments for the formated string (wich will formated by {@link MessageFormat#format(Object)}
+     * @return the target
+     * @throws IOException            if the target fails
+     * @throws NullPointerException   if the target or the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public Appendable append(Appendable target, String code, Object[] args)
+            throws IOException, NullPointerException, NoSuchMessageException {
+        if (target == null || StringUtils.isEmpty(code)) {
+            throw new NullPointerException("illegal argument for append, target, code should not be null");
+        }
+        final Locale locale = getLocale();
+        final MessageIndex index = createIndexIfNessary(locale);
+        appendTo(target, index.getStore(), index.getScope(), code, args, locale);
+        return target;
+    }
+
+    /**
+     * Description : append a message from bundles to the builder, see
+     * {@link #append(Appendable, String, String, Object[], Locale)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target   the target
+     * @param baseName the bundle base name
+     * @param code     the code in the bundle
+     * @param args     the arguments for the formated string (wich will formated by {@link MessageFormat#format(Object)}
+     * @param locale   the locale
+     * @return the target
+     * @throws NullPointerException   if the target, baseNmae, code or the locale is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public StringBuilder append(StringBuilder target, String baseName, String code, Object[] args, Locale locale)
+            throws NullPointerException, NoSuchMessageException {
+        try {
+            append((Appendable) target, baseName, code, args, locale);
+        } catch (IOException ex) {
+            // a StringBuilder never throws it
+            throw new UncheckedIOException(ex);
+        }
+        return target;
+    }
+
+    /**
+     * Description : append a message from bundles to the builder, see {@link #append(Appendable, String, Object[])}
+     * <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param code   the code in the bundle
+     * @param args   the arguments for the formated string (wich will formated by {@link MessageFormat#format(Object)}
+     * @return the target
+     * @throws NullPointerException   if the target or the code is empty
+     * @throws NoSuchMessageException if it can not find the message by given code in target bundle
+     */
+    public StringBuilder append(StringBuilder target, String code, Object[] args)
+            throws NullPointerException, NoSuchMessageException {
+        try {
+            append((Appendable) target, code, args);
+        } catch (IOException ex) {
+            // a StringBuilder never throws it
+            throw new UncheckedIOException(ex);
+        }
+        return target;
+    }
+
+    /**
+     * Description : put a message from bundles into the buffer, see
+     * {@link #append(Appendable, String, String, Object[], Locale)} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target   the target
+     * @param baseName the bundle base name
+     * @param code     the code in the bundle
+     * @param args     the arguments for the formated string (wich will formated by {@link MessageFormat#format(Object)}
+     * @param locale   the locale
+     * @return the target
+     * @throws BufferOverflowException if there is not enough room in the buffer, part of the message may be written
+     * @throws NullPointerException    if the target, baseNmae, code or the locale is empty
+     * @throws NoSuchMessageException  if it can not find the message by given code in target bundle
+     */
+    public CharBuffer append(CharBuffer target, String baseName, String code, Object[] args, Locale locale)
+            throws BufferOverflowException, NullPointerException, NoSuchMessageException {
+        try {
+            append((Appendable) target, baseName, code, args, locale);
+        } catch (IOException ex) {
+            // a CharBuffer never throws it
+            throw new UncheckedIOException(ex);
+        }
+        return target;
+    }
+
+    /**
+     * Description : put a message from bundles into the buffer, see {@link #append(Appendable, String, Object[])} <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param code   the code in the bundle
+     * @param args   the arguments for the formated string (wich will formated by {@link MessageFormat#format(Object)}
+     * @return the target
+     * @throws BufferOverflowException if there is not enough room in the buffer, part of the message may be written
+     * @throws NullPointerException    if the target or the code is empty
+     * @throws NoSuchMessageException  if it can not find the message by given code in target bundle
+     */
+    public CharBuffer append(CharBuffer target, String code, Object[] args)
+            throws BufferOverflowException, NullPointerException, NoSuchMessageException {
+        try {
+            append((Appendable) target, code, args);
+        } catch (IOException ex) {
+            // a CharBuffer never throws it
+            throw new UncheckedIOException(ex);
+        }
+        return target;
+    }
+
+    /**
+     * Description : append the message of a code in a store <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param target the target
+     * @param store  the store
+     * @param scope  the metrics of the store
+     * @param code   the code
+     * @param args   the arguments
+     * @param locale the locale, for the exception
+     * @throws IOException            if the target fails
+     * @throws NoSuchMessageException if there is no such code in the store
+     */
+    static void appendTo(Appendable target, MessageStore store, MessageMetrics.Scope scope, String code, Object[] args,
+                         Locale locale) throws IOException, NoSuchMessageException {
+        final int slot = slotOf(store, scope, code, locale);
+        if (ObjectUtils.isEmpty(args)) {
+            target.append(store.pattern(slot));
+        } else {
+            store.formatTo(slot, target, args);
+        }
+    }
 }
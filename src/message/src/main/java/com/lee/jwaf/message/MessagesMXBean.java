@@ -0,0 +1,105 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+package com.lee.jwaf.message;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ClassName : MessagesMXBean <br>
+ * Description : Management interface of the {@link Messages} metrics, registered as
+ * {@value #OBJECT_NAME} when the metrics are enabled <br>
+ * A scope is one bundle, named like {@code test-messages[zh-CN]}, or the merged index of the configured base names of
+ * a locale, named like {@code test,other[zh-CN]}. Counts are kept only while the metrics are enabled. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public interface MessagesMXBean {
+
+    /** The JMX object name. */
+    String OBJECT_NAME = "com.lee.jwaf.message:type=Messages";
+
+    /**
+     * @return whether the metrics are counted
+     */
+    boolean isEnabled();
+
+    /**
+     * @param enabled true to count the metrics, false to make them free
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return the number of codes found, in all scopes
+     */
+    long getHits();
+
+    /**
+     * @return the number of codes not found, a {@link NoSuchMessageException} or a default message each, in all scopes
+     */
+    long getMisses();
+
+    /**
+     * @return the number of misses answered by a default message, in all scopes
+     */
+    long getDefaults();
+
+    /**
+     * @return the number of bundle loads
+     */
+    long getLoads();
+
+    /**
+     * @return the statistics of each scope
+     */
+    List<MessageStatistics> getScopes();
+
+    /**
+     * @return the number of bundle loads by upper bound of the load time, e.g. {@code "<=10ms"}
+     */
+    Map<String, Long> getLoadLatencyHistogram();
+
+    /**
+     * Description : get the most used codes, counted on a sample of the hits <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param limit the maximum number of codes
+     * @return Map&lt;code, sampled hits&gt;
+     */
+    Map<String, Long> topHotCodes(int limit);
+
+    /**
+     * Description : get the most missed codes <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param limit the maximum number of codes
+     * @return Map&lt;code, misses&gt;
+     */
+    Map<String, Long> topMissingCodes(int limit);
+
+    /**
+     * Description : clear all the counts <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     */
+    void reset();
+}
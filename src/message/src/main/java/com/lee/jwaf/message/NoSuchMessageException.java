@@ -24,6 +24,8 @@ import java.util.Locale;
 /**
  * ClassName : NoSuchMessageException <br>
  * Description : Throw up when a message can not be resolved <br>
+ * The detail message of a lookup miss is only built when it's read. When the missing message was a
+ * {@link LocalizedMessage}, the exception carries it, so it can be rendered later, e.g. in another locale. <br>
  * Create Time : 2016-09-23 <br>
  * @author jimmyblylee@126.com
  */
@@ -32,6 +34,15 @@ public class NoSuchMessageException extends RuntimeException {
 
     private static final long serialVersionUID = 3303397835324846454L;
 
+    /** The message code. */
+    private final String code;
+    /** The locale of the message. */
+    private final Locale locale;
+    /** The lazy message which could not be rendered, not serialized. */
+    private final transient LocalizedMessage unresolved;
+    /** The detail message of a lookup miss once built, a racy write only means it may be built twice. */
+    private transient String message;
+
     /**
      * Default Constructor.
      * @param code the message code
@@ -39,6 +50,44 @@ public class NoSuchMessageException extends RuntimeException {
      */
     public NoSuchMessageException(String code, Locale locale) {
         super("No message found under code '" + code + "' for locale '" + locale + "'.");
+        this.code = code;
+        this.locale = locale;
+        this.unresolved = null;
+    }
+
+    /**
+     * Constructor for a lookup miss, the stack trace is not filled when it's not writable.
+     * @param code the message code
+     * @param locale the locale of the message
+     * @param writableStackTrace whether or not the stack trace should be writable
+     */
+    protected NoSuchMessageException(String code, Locale locale, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.code = code;
+        this.locale = locale;
+        this.unresolved = null;
+    }
+
+    /**
+     * Constructor for a lazy message which can not be rendered.
+     * @param unresolved the lazy message
+     * @param locale the locale it was rendered in
+     */
+    public NoSuchMessageException(LocalizedMessage unresolved, Locale locale) {
+        this(unresolved, locale, true);
+    }
+
+    /**
+     * Constructor for a lazy message which can not be rendered, the stack trace is not filled when it's not writable.
+     * @param unresolved the lazy message
+     * @param locale the locale it was rendered in
+     * @param writableStackTrace whether or not the stack trace should be writable
+     */
+    protected NoSuchMessageException(LocalizedMessage unresolved, Locale locale, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.code = unresolved.getCode();
+        this.locale = locale;
+        this.unresolved = unresolved;
     }
 
     /**
@@ -51,4 +100,42 @@ public class NoSuchMessageException extends RuntimeException {
                         ? new Locale(System.getProperty("app.language"), System.getProperty("app.country"))
                         : Locale.getDefault());
     }
+
+    /**
+     * @return the detail message, built at the first read for a lookup miss
+     */
+    @Override
+    public String getMessage() {
+        String built = message;
+        if (built == null) {
+            built = super.getMessage();
+            if (built == null) {
+                built = "No message found under code '" + code + "' for locale '" + locale + "'.";
+            }
+            message = built;
+        }
+        return built;
+    }
+
+    /**
+     * @return the message code
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return the locale of the message
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return the lazy message which could not be rendered, null if the message was not a lazy one, or once the
+     * exception is deserialized
+     */
+    public LocalizedMessage getUnresolved() {
+        return unresolved;
+    }
 }
@@ -0,0 +1,106 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName : PreloadReport <br>
+ * Description : Result of {@link Messages#preload(java.util.Collection, boolean)} <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class PreloadReport {
+
+    /** Number of locales. */
+    private final int locales;
+    /** Number of loaded bundles. */
+    private final int bundles;
+    /** Number of codes in the loaded bundles, the parent bundles included. */
+    private final long entries;
+    /** Number of compiled templates. */
+    private final long templates;
+    /** Wall time in nanoseconds. */
+    private final long elapsed;
+    /** Bundles or patterns which could not be loaded. */
+    private final List<String> failures;
+
+    PreloadReport(int locales, int bundles, long entries, long templates, long elapsed, List<String> failures) {
+        this.locales = locales;
+        this.bundles = bundles;
+        this.entries = entries;
+        this.templates = templates;
+        this.elapsed = elapsed;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return the number of distinct locales
+     */
+    public int getLocales() {
+        return locales;
+    }
+
+    /**
+     * @return the number of loaded bundles
+     */
+    public int getBundles() {
+        return bundles;
+    }
+
+    /**
+     * @return the number of codes in the loaded bundles, the parent bundles included
+     */
+    public long getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return the number of compiled templates, 0 if the templates were not compiled
+     */
+    public long getTemplates() {
+        return templates;
+    }
+
+    /**
+     * @param unit the time unit
+     * @return the wall time spent
+     */
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the description of each bundle or pattern which could not be loaded, empty if all were loaded
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return "preloaded " + bundles + " bundles of " + locales + " locales, " + entries + " entries, " + templates
+            + " templates in " + getElapsed(TimeUnit.MILLISECONDS) + " ms"
+            + (failures.isEmpty() ? "" : ", " + failures.size() + " failures: " + failures);
+    }
+}
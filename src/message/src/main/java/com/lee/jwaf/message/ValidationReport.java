@@ -0,0 +1,129 @@
+/* ***************************************************************************
+ * EZ.JWAF/EZ.JCWAP: Easy series Production.
+ * Including JWAF(Java-based Web Application Framework)
+ * and JCWAP(Java-based Customized Web Application Platform).
+ * Copyright (C) 2016-2017 the original author or authors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of MIT License as published by
+ * the Free Software Foundation;
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the MIT License for more details.
+ *
+ * You should have received a copy of the MIT License along
+ * with this library; if not, write to the Free Software Foundation.
+ * ***************************************************************************/
+
+package com.lee.jwaf.message;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName : ValidationReport <br>
+ * Description : Result of {@link CatalogValidator} and of {@link Messages#validate(java.util.Collection)} <br>
+ * The errors fail at runtime: a pattern {@link java.text.MessageFormat} can not parse, or a code whose patterns don't
+ * take the same number of arguments in all the locales. The missing and extra codes don't fail, but show a bundle
+ * which is out of step with the default one. <br>
+ * Create Time : 2026-10-17 <br>
+ *
+ * @author jimmyblylee@126.com
+ */
+public final class ValidationReport {
+
+    /** Number of validated properties files. */
+    private final int bundles;
+    /** Number of compiled templates. */
+    private final long templates;
+    /** Wall time in nanoseconds. */
+    private final long elapsed;
+    /** Invalid patterns and argument count mismatches. */
+    private final List<String> errors;
+    /** Map&lt;bundle name, codes of the default bundle it doesn't translate&gt;. */
+    private final Map<String, Set<String>> missing;
+    /** Map&lt;bundle name, codes the default bundle doesn't have&gt;. */
+    private final Map<String, Set<String>> extra;
+
+    ValidationReport(int bundles, long templates, long elapsed, List<String> errors, Map<String, Set<String>> missing,
+                     Map<String, Set<String>> extra) {
+        this.bundles = bundles;
+        this.templates = templates;
+        this.elapsed = elapsed;
+        this.errors = Collections.unmodifiableList(errors);
+        this.missing = Collections.unmodifiableMap(missing);
+        this.extra = Collections.unmodifiableMap(extra);
+    }
+
+    /**
+     * @return the number of validated properties files
+     */
+    public int getBundles() {
+        return bundles;
+    }
+
+    /**
+     * @return the number of compiled templates
+     */
+    public long getTemplates() {
+        return templates;
+    }
+
+    /**
+     * @param unit the time unit
+     * @return the wall time spent
+     */
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the description of each invalid pattern and of each argument count mismatch, empty if there is none
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return Map&lt;bundle name, codes&gt; of the codes of the default bundle which a bundle of a locale doesn't have,
+     * so they fall back to the default message; only the bundles missing some are listed
+     */
+    public Map<String, Set<String>> getMissing() {
+        return missing;
+    }
+
+    /**
+     * @return Map&lt;bundle name, codes&gt; of the codes of a bundle of a locale which the default bundle doesn't have;
+     * only the bundles having some are listed
+     */
+    public Map<String, Set<String>> getExtra() {
+        return extra;
+    }
+
+    /**
+     * @return true if there is no error, missing and extra codes are allowed
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "validated " + bundles + " bundles, " + templates + " templates in "
+            + getElapsed(TimeUnit.MILLISECONDS) + " ms, " + errors.size() + " errors, " + count(missing)
+            + " missing codes, " + count(extra) + " extra codes";
+    }
+
+    private static int count(Map<String, Set<String>> codes) {
+        int count = 0;
+        for (Set<String> set : codes.values()) {
+            count += set.size();
+        }
+        return count;
+    }
+}
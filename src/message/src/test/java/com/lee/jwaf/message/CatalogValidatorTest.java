@@ -0,0 +1,118 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : CatalogValidatorTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ClassName : CatalogValidatorTest <br>
+ * Description : Unit test for CatalogValidator and Messages#validate <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class CatalogValidatorTest {
+
+    private Path source;
+
+    @Before
+    public void init() throws IOException {
+        source = Files.createTempDirectory("validator-source");
+    }
+
+    @After
+    public void clear() throws IOException {
+        for (Path file : Files.list(source).toArray(Path[]::new)) {
+            Files.delete(file);
+        }
+        Files.delete(source);
+        Msg.setBaseNames();
+    }
+
+    @Test
+    public void testDirectory() throws IOException {
+        write("app-messages.properties", "a=hello {0}\nb=plain\nc=at {0,time,H-m-s}\nd=root only\n");
+        write("app-messages_zh.properties", "d=zh {0}\n");
+        write("app-messages_zh_CN.properties", "a={0} {1}\nb=bad {0\nc=\\u65f6\\u95f4 {0,time,H-m-s}\ne=extra\n");
+        write("app-messages_fr.properties", "a=bonjour {0}\nx={0,foo}\n");
+        final ValidationReport report = CatalogValidator.validate(ForkJoinPool.commonPool(), source);
+        assertThat(report.isValid(), is(false));
+        assertThat(report.getBundles(), is(4));
+        assertThat(report.getTemplates(), is(9L));
+        assertThat(report.getErrors().size(), is(4));
+        assertThat(report.getErrors().get(0), is("app-messages a: different numbers of arguments "
+            + "{app-messages=1, app-messages_fr=1, app-messages_zh_CN=2}"));
+        assertThat(report.getErrors().get(1),
+            is("app-messages d: different numbers of arguments {app-messages=0, app-messages_zh=1}"));
+        assertThat(report.getErrors().get(2).startsWith("app-messages_fr x: "), is(true));
+        assertThat(report.getErrors().get(3).startsWith("app-messages_zh_CN b: "), is(true));
+        // zh_CN gets d from zh, so only zh and fr fall back to the default bundle
+        assertThat(report.getMissing().size(), is(2));
+        assertThat(report.getMissing().get("app-messages_zh"), is(set("a", "b", "c")));
+        assertThat(report.getMissing().get("app-messages_fr"), is(set("b", "c", "d")));
+        assertThat(report.getExtra().size(), is(2));
+        assertThat(report.getExtra().get("app-messages_zh_CN"), is(set("e")));
+        assertThat(report.getExtra().get("app-messages_fr"), is(set("x")));
+    }
+
+    @Test
+    public void testValidResources() throws Exception {
+        final Path resources = Paths.get(getClass().getResource("/test-messages.properties").toURI()).getParent();
+        final ValidationReport report = CatalogValidator.validate(ForkJoinPool.commonPool(), resources);
+        assertThat(report.toString(), report.isValid(), is(true));
+        assertThat(report.getMissing().isEmpty(), is(true));
+        assertThat(report.getExtra().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testClassPath() {
+        Msg.setBaseNames("other", "test");
+        ValidationReport report = Msg.validate(Arrays.asList(Locale.US, new Locale("zh", "CN")));
+        assertThat(report.toString(), report.isValid(), is(true));
+        // other-messages, test-messages, test-messages_en_US and test-messages_zh_CN
+        assertThat(report.getBundles(), is(4));
+        assertThat(report.getTemplates(), is(5L));
+
+        Msg.setBaseNames("nosuch");
+        report = Msg.validate(Collections.singleton(Locale.US));
+        assertThat(report.getErrors(), is(Arrays.asList("nosuch-messages: no properties file on the class path")));
+        try {
+            Msg.validate(Collections.<Locale>emptyList());
+            fail();
+        } catch (NullPointerException ex) {
+            assertThat(ex.getMessage(), is("illegal argument for validate, locales should not be null"));
+        }
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(source.resolve(name), content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static Set<String> set(String... codes) {
+        return new TreeSet<>(Arrays.asList(codes));
+    }
+}
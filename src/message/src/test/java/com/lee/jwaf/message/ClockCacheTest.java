@@ -0,0 +1,116 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : ClockCacheTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * ClassName : ClockCacheTest <br>
+ * Description : Unit test for ClockCache and the bounded bundle cache of Messages <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class ClockCacheTest {
+
+    @Test
+    public void testSecondChance() {
+        final ClockCache<Integer, String> cache = new ClockCache<>(() -> 4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(cache.computeIfAbsent(i, String::valueOf), is(String.valueOf(i)));
+        }
+        // 0 and 2 are used again, 1 and 3 are the candidates
+        cache.get(0);
+        cache.get(2);
+        cache.computeIfAbsent(4, String::valueOf);
+        cache.computeIfAbsent(5, String::valueOf);
+        assertThat(cache.size(), is(4));
+        assertThat(cache.get(0), is("0"));
+        assertThat(cache.get(2), is("2"));
+        assertThat(cache.get(1) == null && cache.get(3) == null, is(true));
+        cache.replace(4, "four");
+        cache.replace(1, "one");
+        assertThat(cache.get(4), is("four"));
+        assertThat(cache.get(1) == null, is(true));
+        assertThat(cache.putIfAbsent(4, "other"), is("four"));
+    }
+
+    @Test
+    public void testRemoveAndPutAgain() {
+        final ClockCache<Integer, String> cache = new ClockCache<>(() -> 4);
+        for (int i = 0; i < 10000; i++) {
+            // as the aliases of a reloaded bundle, the cache never grows over its capacity so it's never swept
+            cache.remove(i % 4);
+            cache.putIfAbsent(i % 4, String.valueOf(i));
+            cache.remove(i % 4);
+            cache.computeIfAbsent(i % 4, String::valueOf);
+        }
+        assertThat(cache.size(), is(4));
+        assertThat(cache.ringSize(), is(4));
+        // the stale keys don't use up the sweep
+        for (int i = 4; i < 8; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        assertThat(cache.size(), is(4));
+        assertThat(cache.ringSize(), is(4));
+    }
+
+    @Test
+    public void testChurn() throws Exception {
+        final int capacity = 64;
+        final int threads = 8;
+        final ClockCache<Integer, Integer> cache = new ClockCache<>(() -> capacity);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 100000; i++) {
+                        // a few hot keys among a flood of cold ones
+                        final int key = i % 2 == 0 ? i % 8 : ThreadLocalRandom.current().nextInt(1000000);
+                        assertThat(cache.computeIfAbsent(key, k -> k), is(key));
+                        assertThat(cache.size() <= capacity + ClockCache.slack(capacity) + threads, is(true));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(cache.size() <= capacity, is(true));
+    }
+
+    @Test
+    public void testMessagesLocaleChurn() {
+        final int capacity = Messages.getCacheCapacity();
+        Msg.setCacheCapacity(4);
+        try {
+            for (int i = 0; i < 100; i++) {
+                final Locale junk = new Locale("xx", "YY", "churn" + i);
+                assertThat(Msg.msg("test", "test.msg", null, junk), is(Msg.msg("test", "test.msg", null, Locale.US)));
+            }
+        } finally {
+            Msg.setCacheCapacity(capacity);
+        }
+    }
+}
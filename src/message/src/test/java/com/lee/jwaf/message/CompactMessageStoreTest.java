@@ -0,0 +1,112 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : CompactMessageStoreTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+
+import org.junit.Test;
+
+/**
+ * ClassName : CompactMessageStoreTest <br>
+ * Description : Unit test for CompactMessageStore, lookups and footprint against ResourceBundle, measured by the
+ * thread allocation counter <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class CompactMessageStoreTest {
+
+    private static final int CODES = 20000;
+
+    @Test
+    public void testLookup() {
+        final ResourceBundle bundle = ResourceBundle.getBundle("test-messages", new Locale("zh", "CN"));
+        final CompactMessageStore store = CompactMessageStore.of(bundle);
+        final int slot = store.indexOf("test.msg");
+        assertThat(store.code(slot), is("test.msg"));
+        assertThat(store.pattern(slot), is(bundle.getString("test.msg")));
+        assertThat(store.indexOf("foo"), is(-1));
+    }
+
+    @Test
+    public void testMerge() throws IOException {
+        final CompactMessageStore first = CompactMessageStore.of(bundle("a=first a\nb=first b\n"));
+        final CompactMessageStore second = CompactMessageStore.of(bundle("b=second b\nc=second c\n"));
+        final CompactMessageStore merged = CompactMessageStore.merge(first, second);
+        assertThat(merged.pattern(merged.indexOf("a")), is("first a"));
+        assertThat(merged.pattern(merged.indexOf("b")), is("first b"));
+        assertThat(merged.pattern(merged.indexOf("c")), is("second c"));
+        assertThat(merged.indexOf("d"), is(-1));
+    }
+
+    @Test
+    public void testManyCodes() throws IOException {
+        final CompactMessageStore store = CompactMessageStore.of(bundle(catalog(CODES)));
+        for (int i = 0; i < CODES; i++) {
+            final int slot = store.indexOf("module" + i % 50 + ".error.code" + i);
+            assertThat(store.pattern(slot), is("message " + i + " {0}"));
+            assertThat(store.indexOf("module" + i % 50 + ".missing.code" + i), is(-1));
+        }
+    }
+
+    @Test
+    public void testFootprint() throws IOException {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        final com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        counter.setThreadAllocatedMemoryEnabled(true);
+        final long id = Thread.currentThread().getId();
+        // just under and just over a power of two, the table of the store is the emptiest in the second case
+        for (int codes : new int[] {CODES, 33000}) {
+            final Map<String, String> messages = new HashMap<>();
+            final ResourceBundle source = bundle(catalog(codes));
+            for (String code : source.keySet()) {
+                messages.put(code.intern(), source.getString(code));
+            }
+            // the codes and patterns are shared, the rest is counted: the table of a properties bundle against all
+            // the store allocates, its room for the compiled templates included
+            long start = counter.getThreadAllocatedBytes(id);
+            final Map<String, Object> lookup = new HashMap<>(messages);
+            final long bundleBytes = counter.getThreadAllocatedBytes(id) - start;
+            start = counter.getThreadAllocatedBytes(id);
+            final CompactMessageStore store = CompactMessageStore.of(messages);
+            final long storeBytes = counter.getThreadAllocatedBytes(id) - start;
+            assertThat(store.size(), is(lookup.size()));
+            assertTrue(codes + " codes: store " + storeBytes + " bytes, bundle " + bundleBytes + " bytes",
+                storeBytes < bundleBytes);
+        }
+    }
+
+    private static String catalog(int codes) {
+        final StringBuilder catalog = new StringBuilder();
+        for (int i = 0; i < codes; i++) {
+            catalog.append("module").append(i % 50).append(".error.code").append(i)
+                .append("=message ").append(i).append(" {0}\n");
+        }
+        return catalog.toString();
+    }
+
+    private static ResourceBundle bundle(String properties) throws IOException {
+        return new PropertyResourceBundle(new StringReader(properties));
+    }
+}
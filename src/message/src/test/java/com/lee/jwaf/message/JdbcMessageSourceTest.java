@@ -0,0 +1,206 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : JdbcMessageSourceTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ClassName : JdbcMessageSourceTest <br>
+ * Description : Unit test for loading messages from a table, on an in-memory stand-in of the JDBC driver <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class JdbcMessageSourceTest {
+
+    private final Locale zh = new Locale("zh", "CN");
+    /** Rows of base_name, locale, code, pattern, version. */
+    private final List<Object[]> table = new ArrayList<>();
+    private final AtomicInteger queries = new AtomicInteger();
+    /** Index of the row at which a result set fails, -1 for none. */
+    private int failAt = -1;
+    private JdbcMessageSource source;
+
+    @Before
+    public void init() {
+        table.add(new Object[] {"app", "", "app.hello", "hello {0}", 1L});
+        table.add(new Object[] {"app", "", "app.bye", "bye", 2L});
+        table.add(new Object[] {"app", "zh_CN", "app.hello", "你好 {0}", 3L});
+        source = new JdbcMessageSource(dataSource());
+        Msg.setMessageSource(source);
+    }
+
+    @After
+    public void clear() {
+        Msg.setMessageSource(null);
+    }
+
+    @Test
+    public void testLoad() {
+        assertThat(Msg.msg("app", "app.hello", new Object[] {"jimmy"}, zh), is("你好 jimmy"));
+        assertThat(Msg.msg("app", "app.bye", null, zh), is("bye"));
+        // the version, then the rows of all the locales of the chain in one query
+        assertThat(queries.get(), is(2));
+        // same chain, read from memory
+        assertThat(Msg.msg("app", "app.hello", new Object[] {"jimmy"}, Locale.forLanguageTag("zh-Hans-CN")),
+            is("你好 jimmy"));
+        assertThat(queries.get(), is(2));
+        assertThat(Msg.msg("app", "app.hello", new Object[] {"jimmy"}, new Locale("xx")), is("hello jimmy"));
+        try {
+            Msg.msg("nosuch", "app.hello", null, zh);
+            fail();
+        } catch (MissingResourceException ex) {
+            assertThat(ex.getClassName(), is("nosuch-messages_zh_CN"));
+        }
+        try {
+            new JdbcMessageSource(dataSource(), "messages; DROP TABLE messages");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage().startsWith("illegal argument for JdbcMessageSource"), is(true));
+        }
+    }
+
+    @Test
+    public void testRefresh() {
+        assertThat(source.refresh(), is(0));
+        assertThat(Msg.msg("app", "app.hello", new Object[] {"jimmy"}, zh), is("你好 jimmy"));
+        final MessageAccessor accessor = Msg.bundle("app", zh);
+        table.add(new Object[] {"app", "zh_CN", "app.hello", "您好 {0}", 4L});
+        table.add(new Object[] {"app", "zh_CN", "app.new", "新", 5L});
+        table.add(new Object[] {"app", "", "app.bye", null, 6L});
+        table.add(new Object[] {"other", "", "other.msg", "other", 7L});
+        final int loaded = queries.get();
+        assertThat(source.refresh(), is(4));
+        // one query for the changes, the bundles are loaded again from memory
+        assertThat(queries.get(), is(loaded + 1));
+        assertThat(Msg.msg("app", "app.hello", new Object[] {"jimmy"}, zh), is("您好 jimmy"));
+        assertThat(accessor.msg("app.new"), is("新"));
+        assertThat(accessor.contains("app.bye"), is(false));
+        assertThat(source.refresh(), is(0));
+    }
+
+    @Test
+    public void testFailedRefresh() {
+        assertThat(Msg.msg("app", "app.hello", new Object[] {"jimmy"}, zh), is("你好 jimmy"));
+        table.add(new Object[] {"app", "zh_CN", "app.hello", "您好 {0}", 4L});
+        table.add(new Object[] {"app", "zh_CN", "app.new", "新", 5L});
+        // the connection is lost after the first changed row
+        failAt = 1;
+        try {
+            source.refresh();
+            fail();
+        } catch (IllegalStateException ex) {
+            assertThat(ex.getCause() instanceof SQLException, is(true));
+        }
+        failAt = -1;
+        assertThat(Msg.msg("app", "app.hello", new Object[] {"jimmy"}, zh), is("你好 jimmy"));
+        // both rows are read again
+        assertThat(source.refresh(), is(2));
+        assertThat(Msg.msg("app", "app.hello", new Object[] {"jimmy"}, zh), is("您好 jimmy"));
+        assertThat(Msg.msg("app", "app.new", null, zh), is("新"));
+    }
+
+    /**
+     * @return a data source answering the statements of JdbcMessageSource from the table
+     */
+    private DataSource dataSource() {
+        return proxy(DataSource.class, (method, args) -> method.equals("getConnection")
+            ? proxy(Connection.class, (m, a) -> m.equals("prepareStatement") ? statement((String) a[0]) : null)
+            : null);
+    }
+
+    private PreparedStatement statement(String sql) {
+        final Map<Integer, Object> params = new HashMap<>();
+        return proxy(PreparedStatement.class, (method, args) -> {
+            if (method.startsWith("set")) {
+                params.put((Integer) args[0], args[1]);
+            } else if (method.equals("executeQuery")) {
+                queries.incrementAndGet();
+                return resultSet(query(sql, params));
+            }
+            return null;
+        });
+    }
+
+    private List<Object[]> query(String sql, Map<Integer, Object> params) {
+        final List<Object[]> result = new ArrayList<>();
+        if (sql.startsWith("SELECT MAX(version)")) {
+            long max = 0;
+            for (Object[] row : table) {
+                max = Math.max(max, (Long) row[4]);
+            }
+            result.add(new Object[] {max});
+        } else if (sql.contains("WHERE version > ?")) {
+            for (Object[] row : table) {
+                if ((Long) row[4] > (Long) params.get(1)) {
+                    result.add(row);
+                }
+            }
+        } else {
+            for (Object[] row : table) {
+                if (row[0].equals(params.get(1)) && row[3] != null && params.values().contains(row[1])) {
+                    result.add(new Object[] {row[1], row[2], row[3]});
+                }
+            }
+        }
+        return result;
+    }
+
+    private ResultSet resultSet(List<Object[]> rows) {
+        final int[] current = {-1};
+        return proxy(ResultSet.class, (method, args) -> {
+            switch (method) {
+                case "next":
+                    if (++current[0] == failAt) {
+                        throw new SQLException("connection lost");
+                    }
+                    return current[0] < rows.size();
+                case "getString":
+                    return (String) rows.get(current[0])[(Integer) args[0] - 1];
+                case "getLong":
+                    return (Long) rows.get(current[0])[(Integer) args[0] - 1];
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (self, method, args) -> handler.handle(method.getName(), args)));
+    }
+
+    /**
+     * Answer of a proxied JDBC method by name.
+     */
+    private interface Handler {
+        Object handle(String method, Object[] args) throws SQLException;
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : LocaleContextTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lee.jwaf.context.ActionContext;
+
+/**
+ * ClassName : LocaleContextTest <br>
+ * Description : Unit test for carrying the request locale across threads with LocaleContext <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class LocaleContextTest {
+
+    private static final int THREADS = 64;
+    private static final int TASKS = 10000;
+    private static final Locale[] LOCALES = {Locale.US, new Locale("zh", "CN"), Locale.ROOT};
+
+    private final Object[] args = {"jimmy", new Date()};
+    private ExecutorService pool;
+
+    @Before
+    public void init() {
+        Msg.setBaseNames("test");
+        ActionContext.setContext(null);
+        pool = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void clear() {
+        pool.shutdownNow();
+        ActionContext.setContext(null);
+        Msg.setBaseNames();
+    }
+
+    @Test
+    public void testScopes() {
+        assertThat(LocaleContext.current(), is(nullValue()));
+        final LocaleContext.Scope outer = LocaleContext.of(Locale.US).open();
+        try {
+            assertThat(Messages.getLocale(), is(Locale.US));
+            final LocaleContext.Scope inner = LocaleContext.of(Locale.CHINA).open();
+            try {
+                assertThat(Messages.getLocale(), is(Locale.CHINA));
+            } finally {
+                inner.close();
+            }
+            assertThat(Messages.getLocale(), is(Locale.US));
+        } finally {
+            outer.close();
+        }
+        assertThat(LocaleContext.current(), is(nullValue()));
+    }
+
+    @Test
+    public void testCaptureActionContext() throws Exception {
+        final ActionContext ctx = new ActionContext();
+        ctx.setLocale(new Locale("zh", "CN"));
+        ActionContext.setContext(ctx);
+        final LocaleContext context = LocaleContext.capture();
+        assertThat(context.getLocale(), is(new Locale("zh", "CN")));
+        assertThat(pool.submit(context.wrap((Callable<Locale>) Messages::getLocale)).get(), is(new Locale("zh", "CN")));
+    }
+
+    @Test
+    public void testPropagatingExecutor() throws Exception {
+        final ExecutorService propagating = LocaleContext.propagating(pool);
+        final List<Future<String>> results = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            // each submission is a request of its own locale
+            final LocaleContext.Scope scope = LocaleContext.of(LOCALES[i % LOCALES.length]).open();
+            try {
+                results.add(propagating.submit(() -> Msg.msg("test.msg", args)));
+            } finally {
+                scope.close();
+            }
+        }
+        for (int i = 0; i < TASKS; i++) {
+            assertThat(results.get(i).get(), is(expected(LOCALES[i % LOCALES.length])));
+        }
+        assertNoBinding();
+    }
+
+    @Test
+    public void testCompletableFutures() throws Exception {
+        final List<CompletableFuture<String>> results = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            final LocaleContext context = LocaleContext.of(LOCALES[i % LOCALES.length]);
+            results.add(CompletableFuture.supplyAsync(context.wrapSupplier(() -> Msg.msg("test.msg", args)), pool)
+                .thenApplyAsync(context.wrap((String first) -> first + "|" + Msg.msg("test.msg", args)), pool));
+        }
+        for (int i = 0; i < TASKS; i++) {
+            final String expected = expected(LOCALES[i % LOCALES.length]);
+            assertThat(results.get(i).get(), is(expected + "|" + expected));
+        }
+        assertNoBinding();
+    }
+
+    private String expected(Locale locale) {
+        return Msg.msg("test", "test.msg", args, locale);
+    }
+
+    /**
+     * the pooled threads keep no locale of the former tasks.
+     */
+    private void assertNoBinding() throws Exception {
+        final List<Future<Locale>> bindings = new ArrayList<>(THREADS * 4);
+        for (int i = 0; i < THREADS * 4; i++) {
+            bindings.add(pool.submit((Callable<Locale>) LocaleContext::current));
+        }
+        for (Future<Locale> binding : bindings) {
+            assertThat(binding.get(), is(nullValue()));
+        }
+    }
+}
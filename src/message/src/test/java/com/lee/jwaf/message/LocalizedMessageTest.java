@@ -0,0 +1,122 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : LocalizedMessageTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lee.jwaf.context.ActionContext;
+
+/**
+ * ClassName : LocalizedMessageTest <br>
+ * Description : Unit test for the lazy messages of Messages <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class LocalizedMessageTest {
+
+    private final Locale zh = new Locale("zh", "CN");
+    private final Object[] args = {"jimmy", new Date()};
+
+    @Before
+    public void init() {
+        ActionContext.setContext(null);
+        Msg.setBaseNames("other", "test");
+    }
+
+    @After
+    public void clear() {
+        Msg.setBaseNames();
+    }
+
+    @Test
+    public void testDeferred() {
+        final MessagesMXBean metrics = Msg.getMetrics();
+        metrics.setEnabled(true);
+        metrics.reset();
+        try {
+            final LocalizedMessage message = Msg.localized("test.msg", new Object[] {"jimmy"});
+            final LocalizedMessage missing = Msg.localized("nosuch", "foo", null, Locale.US);
+            assertThat(metrics.getHits(), is(0L));
+            assertThat(missing.getBaseName(), is("nosuch"));
+            final LocaleContext.Scope scope = LocaleContext.of(Locale.US).open();
+            try {
+                assertThat(message.toString(), is("shadowed jimmy"));
+            } finally {
+                scope.close();
+            }
+            assertThat(metrics.getHits(), is(1L));
+        } finally {
+            metrics.setEnabled(false);
+            metrics.reset();
+        }
+    }
+
+    @Test
+    public void testRender() {
+        final LocalizedMessage message = Msg.localized("test", "test.msg", args, Locale.US);
+        final String rendered = message.render();
+        assertThat(rendered, is(Msg.msg("test", "test.msg", args, Locale.US)));
+        assertThat(message.toString(), sameInstance(rendered));
+        assertThat(message.render(zh), is(Msg.msg("test", "test.msg", args, zh)));
+        assertThat(message.render(Locale.US), is(rendered));
+        assertThat(message.render(Locale.US), sameInstance(message.render(Locale.US)));
+
+        // rendered again once bundles are reloaded
+        final String before = message.render();
+        Msg.setCatalogs(true);
+        Msg.setCatalogs(false);
+        assertThat(message.render(), not(sameInstance(before)));
+        assertThat(message.render(), is(before));
+    }
+
+    @Test
+    public void testLocaleOfReader() {
+        final LocalizedMessage message = Msg.localized("test.msg", null);
+        final LocaleContext.Scope scope = LocaleContext.of(Locale.US).open();
+        try {
+            assertThat(message.toString(), is("shadowed {0}"));
+        } finally {
+            scope.close();
+        }
+        assertThat(Msg.localized("test", "test.msg", args, null).render(zh), is(Msg.msg("test", "test.msg", args, zh)));
+    }
+
+    @Test
+    public void testMissing() {
+        final LocalizedMessage message = Msg.localized("foo", new Object[] {"jimmy"});
+        assertThat(message.toString(), is("foo"));
+        try {
+            message.render(Locale.US);
+            fail();
+        } catch (NoSuchMessageException ex) {
+            assertThat(ex.getUnresolved(), sameInstance(message));
+            assertThat(ex.getCode(), is("foo"));
+            assertThat(ex.getLocale(), is(Locale.US));
+            assertThat(ex.getMessage(), is("No message found under code 'foo' for locale 'en_US'."));
+        }
+        try {
+            Msg.localized("", null);
+            fail();
+        } catch (NullPointerException ex) {
+            assertThat(ex.getMessage(), is("illegal argument for localized, code should not be null"));
+        }
+    }
+}
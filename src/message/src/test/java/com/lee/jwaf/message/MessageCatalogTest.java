@@ -0,0 +1,173 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : MessageCatalogTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ClassName : MessageCatalogTest <br>
+ * Description : Unit test for CatalogCompiler and MessageCatalog <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class MessageCatalogTest {
+
+    private Path resources;
+    private Path source;
+    private Path target;
+
+    @Before
+    public void init() throws Exception {
+        // the directory of the test resources is on the class path
+        resources = Paths.get(getClass().getResource("/test-messages.properties").toURI()).getParent();
+        source = Files.createTempDirectory("catalog-source");
+        target = Files.createTempDirectory("catalog-target");
+        Locale.setDefault(Locale.US);
+    }
+
+    @After
+    public void clear() throws IOException {
+        Msg.setCatalogs(false);
+        Files.deleteIfExists(resources.resolve("catalog-messages.catalog"));
+        Files.deleteIfExists(resources.resolve("catalog-messages_zh_CN.catalog"));
+        for (Path dir : new Path[] {source, target}) {
+            for (Path file : Files.list(dir).toArray(Path[]::new)) {
+                Files.delete(file);
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void testSameAsResourceBundle() throws IOException {
+        final List<Path> catalogs = CatalogCompiler.compile(resources, target);
+        assertThat(Files.exists(target.resolve("test-messages_zh_CN.catalog")), is(true));
+        for (Locale locale : new Locale[] {Locale.US, Locale.CHINA, Locale.GERMANY}) {
+            final ResourceBundle bundle = ResourceBundle.getBundle("test-messages", locale);
+            final MessageCatalog catalog = MessageCatalog.find("test-messages", locale, loader(target));
+            assertThat(catalog.size(), is(bundle.keySet().size()));
+            for (String code : bundle.keySet()) {
+                assertThat(catalog.pattern(catalog.indexOf(code)), is(bundle.getString(code)));
+            }
+            assertThat(catalog.indexOf("foo"), is(-1));
+        }
+        for (Path catalog : catalogs) {
+            Files.delete(catalog);
+        }
+    }
+
+    @Test
+    public void testCodes() throws IOException {
+        write(source.resolve("codes-messages.properties"), "a=ascii\n\\u952e.\\u540d=cjk {0}\n"
+            + "emoji.\\ud83d\\ude00=emoji\ncaf\\u00e9=latin\n");
+        write(source.resolve("codes-messages_zh_CN.properties"), "a=\\u4e2d\\u6587\n");
+        CatalogCompiler.compile(source, target);
+        final MessageCatalog catalog = MessageCatalog.find("codes-messages", Locale.CHINA, loader(target));
+        assertThat(catalog.size(), is(4));
+        assertThat(catalog.pattern(catalog.indexOf("a")), is("中文"));
+        assertThat(catalog.format(catalog.indexOf("键.名"), new Object[] {"jimmy"}), is("cjk jimmy"));
+        assertThat(catalog.pattern(catalog.indexOf("emoji.😀")), is("emoji"));
+        assertThat(catalog.pattern(catalog.indexOf("café")), is("latin"));
+        for (String miss : new String[] {"", "b", "键", "键.名.", "emoji.\ud83d", "cafe"}) {
+            assertThat(catalog.indexOf(miss), is(-1));
+        }
+        int codes = 0;
+        for (int slot = 0; slot < catalog.capacity(); slot++) {
+            if (catalog.code(slot) != null) {
+                assertThat(catalog.indexOf(catalog.code(slot)), is(slot));
+                codes++;
+            }
+        }
+        assertThat(codes, is(4));
+    }
+
+    @Test
+    public void testMixedTree() throws IOException {
+        write(source.resolve("mixed-messages.properties"), "mixed.msg=root\n");
+        CatalogCompiler.compile(source, target);
+        // a locale file added next to the catalog of the root bundle
+        write(target.resolve("mixed-messages_zh_CN.properties"), "mixed.msg=zh\n");
+        assertThat(MessageCatalog.find("mixed-messages", Locale.CHINA, loader(target)) == null, is(true));
+        final MessageCatalog catalog = MessageCatalog.find("mixed-messages", Locale.GERMANY, loader(target));
+        assertThat(catalog.pattern(catalog.indexOf("mixed.msg")), is("root"));
+        // a catalog beside the properties file of its locale is used
+        write(source.resolve("mixed-messages_zh_CN.properties"), "mixed.msg=zh\n");
+        CatalogCompiler.compile(source, target);
+        final MessageCatalog zh = MessageCatalog.find("mixed-messages", Locale.CHINA, loader(target));
+        assertThat(zh.pattern(zh.indexOf("mixed.msg")), is("zh"));
+    }
+
+    @Test
+    public void testFileNames() throws IOException {
+        write(source.resolve("names-messages.properties"), "a=root\n");
+        write(source.resolve("names-messages_zh_Hans_CN.properties"), "a=hans\n");
+        // not a bundle, skipped
+        write(source.resolve("names-messages-old.properties"), "a=old\n");
+        final List<Path> catalogs = CatalogCompiler.compile(source, target);
+        assertThat(catalogs.size(), is(2));
+        final MessageCatalog hans = MessageCatalog.find("names-messages", Locale.forLanguageTag("zh-Hans-CN"),
+            loader(target));
+        assertThat(hans.pattern(hans.indexOf("a")), is("hans"));
+        assertThat(CatalogValidator.validate(ForkJoinPool.commonPool(), source).getBundles(), is(2));
+    }
+
+    @Test
+    public void testMessagesCatalogs() throws IOException {
+        write(source.resolve("catalog-messages.properties"), "catalog.msg=hello {0}\nbase.msg=base\n");
+        write(source.resolve("catalog-messages_zh_CN.properties"), "catalog.msg={0} \\u4f60\\u597d\n");
+        CatalogCompiler.compile(source, resources);
+        // there is no properties file of this bundle on the class path
+        try {
+            Msg.msg("catalog", "catalog.msg", new Object[] {"jimmy"}, Locale.CHINA);
+            fail();
+        } catch (MissingResourceException ex) {
+            assertThat(ex.getClassName(), is("catalog-messages_zh_CN"));
+        }
+        Msg.setCatalogs(true);
+        assertThat(Msg.msg("catalog", "catalog.msg", new Object[] {"jimmy"}, Locale.CHINA), is("jimmy 你好"));
+        assertThat(Msg.msg("catalog", "catalog.msg", new Object[] {"jimmy"}, Locale.GERMANY), is("hello jimmy"));
+        assertThat(Msg.msg("catalog", "base.msg", null, Locale.CHINA), is("base"));
+        // a bundle without catalog is still loaded from its properties files
+        assertThat(Msg.msg("other", "other.msg", null, Locale.CHINA), is("other message"));
+
+        Msg.setBaseNames("test", "catalog");
+        final StringBuilder message = Msg.append(new StringBuilder(), "catalog.msg", new Object[] {"jimmy"});
+        assertThat(message.toString(), is(Msg.msg("catalog", "catalog.msg", new Object[] {"jimmy"},
+            Messages.getLocale())));
+        Msg.setBaseNames();
+    }
+
+    private static ClassLoader loader(Path directory) throws IOException {
+        return new URLClassLoader(new URL[] {directory.toUri().toURL()}, null);
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : MessageTemplateTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * ClassName : MessageTemplateTest <br>
+ * Description : Unit test for MessageTemplate, the result must be the same as MessageFormat <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class MessageTemplateTest {
+
+    private static final String[] PATTERNS = {
+        "",
+        "no argument",
+        "hello {0} and {1}",
+        "{0} 你好，{1}",
+        "{0}{0}{1}",
+        "{1} before {0}",
+        "it''s {0}",
+        "quoted '{0}' and {0}",
+        "'{'{0}'}'",
+        "missing {3}",
+    };
+
+    private static final Object[] ARGS = {"jimmy", new Date(), 1234567, new BigDecimal("3.14159"), null,
+        Locale.CHINA};
+
+    @Test
+    public void testSameAsMessageFormat() {
+        for (Locale locale : new Locale[] {Locale.US, Locale.CHINA, Locale.GERMANY}) {
+            for (String pattern : PATTERNS) {
+                final MessageTemplate template = MessageTemplate.compile(pattern, locale);
+                for (int i = 0; i < ARGS.length; i++) {
+                    final Object[] args = {ARGS[i], ARGS[(i + 1) % ARGS.length]};
+                    assertThat(template.format(args), is(new MessageFormat(pattern, locale).format(args)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSubFormats() {
+        final Date d = new Date();
+        final Object[][] cases = {
+            {"hello {0} the time is {1,time,H-m-s}", new Object[] {"jimmy", d}},
+            {"{0} 你好，现在时间是 {1,time,H-m-s}", new Object[] {"jimmy", d}},
+            {"number {0,number,#.##} and {1,choice,0#none|1#one|1<many}", new Object[] {3.14159, 2}},
+        };
+        for (Locale locale : new Locale[] {Locale.US, Locale.CHINA, Locale.GERMANY}) {
+            for (Object[] c : cases) {
+                final String pattern = (String) c[0];
+                final Object[] args = (Object[]) c[1];
+                assertThat(MessageTemplate.compile(pattern, locale).format(args),
+                    is(new MessageFormat(pattern, locale).format(args)));
+            }
+        }
+    }
+
+    @Test
+    public void testFormatTo() throws IOException {
+        final String[] patterns = {PATTERNS[2], PATTERNS[9], "{10} and {0}", "hello {0} the time is {1,time,H-m-s}"};
+        final Object[] args = {"jimmy", new Date(), 1234567};
+        for (String pattern : patterns) {
+            final MessageTemplate template = MessageTemplate.compile(pattern, Locale.US);
+            final StringBuilder builder = new StringBuilder("> ");
+            template.formatTo(builder, args);
+            assertThat(builder.toString(), is("> " + new MessageFormat(pattern, Locale.US).format(args)));
+            final CharBuffer buffer = CharBuffer.allocate(128);
+            template.formatTo(buffer, args);
+            buffer.flip();
+            assertThat(buffer.toString(), is(template.format(args)));
+        }
+    }
+
+    @Test
+    public void testArguments() {
+        final Object[] args = {1234567, "jimmy", null, -42L};
+        for (Locale locale : new Locale[] {Locale.US, Locale.CHINA, Locale.GERMANY}) {
+            for (String pattern : new String[] {"{0}-{1}-{2}-{3}-{4}", "{3} {2} {1} {0}", "{0,number,#.##} {1}"}) {
+                final MessageTemplate template = MessageTemplate.compile(pattern, locale);
+                for (int count = 1; count <= args.length; count++) {
+                    assertThat(template.format(count, args[0], args[1], args[2], args[3]),
+                        is(new MessageFormat(pattern, locale).format(Arrays.copyOf(args, count))));
+                }
+                for (long value : new long[] {0, -1, 999, 1000, 1234567, Long.MAX_VALUE, Long.MIN_VALUE}) {
+                    assertThat(template.format(value),
+                        is(new MessageFormat(pattern, locale).format(new Object[] {value})));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIntegersOfAllLocales() throws IOException {
+        final long[] values = {0, 7, -7, 1000, -123456789, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (Locale locale : Locale.getAvailableLocales()) {
+            final IntegerFormat format = IntegerFormat.of(locale);
+            for (long value : values) {
+                final StringBuilder builder = new StringBuilder();
+                format.appendTo(builder, value);
+                assertThat(locale.toString(), builder.toString(), is(NumberFormat.getInstance(locale).format(value)));
+            }
+        }
+    }
+
+    @Test
+    public void testIsFor() {
+        final MessageTemplate template = MessageTemplate.compile("hello {0}", Locale.US);
+        assertThat(template.isFor(Locale.US), is(true));
+        assertThat(template.isFor(Locale.CHINA), is(false));
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : MessageWriterTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * ClassName : MessageWriterTest <br>
+ * Description : Unit test for streaming messages into a writer or a channel <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class MessageWriterTest {
+
+    private final Object[] args = {"jimmy", new Date()};
+
+    @Test
+    public void testWriter() throws IOException {
+        final StringWriter out = new StringWriter();
+        final Stream<Map.Entry<String, Object[]>> records = Stream.of(
+            new AbstractMap.SimpleEntry<>("test.msg", args), new AbstractMap.SimpleEntry<>("test.msg", null));
+        try (MessageWriter writer = Msg.bundle("test", Locale.US).writer(out)) {
+            writer.write("test.msg", args).write(";");
+            assertThat(writer.render(records, "\n"), is(2L));
+        }
+        final String msg = Msg.msg("test", "test.msg", args, Locale.US);
+        assertThat(out.toString(), is(msg + ";" + msg + "\n" + Msg.msg("test", "test.msg", null, Locale.US) + "\n"));
+    }
+
+    @Test
+    public void testLargeExport() throws IOException {
+        final int rows = 200000;
+        final String row = Msg.msg("test", "test.msg", args, Locale.US) + "\n";
+        final CountingWriter out = new CountingWriter();
+        try (MessageWriter writer = Msg.bundle("test", Locale.US).writer(out)) {
+            assertThat(writer.render(IntStream.range(0, rows).boxed(), i -> "test.msg", i -> args, "\n"),
+                is((long) rows));
+        }
+        assertThat(out.count, is((long) rows * row.length()));
+        // written in bounded chunks, whatever the number of rows
+        assertThat(out.max < MessageWriter.CHUNK + row.length(), is(true));
+        assertThat(out.writes > rows * row.length() / (MessageWriter.CHUNK + row.length()), is(true));
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final Locale zh = new Locale("zh", "CN");
+        final StringBuilder expected = new StringBuilder();
+        try (MessageWriter writer = Msg.bundle("test", zh).writer(Channels.newChannel(bytes), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 2000; i++) {
+                writer.write("test.msg", args).write("\n");
+                expected.append(Msg.msg("test", "test.msg", args, zh)).append('\n');
+            }
+            // a surrogate pair split between two chunks
+            writer.write("a\uD83D");
+            writer.flush();
+            writer.write("\uDE00");
+            expected.append("a😀");
+        }
+        assertThat(new String(bytes.toByteArray(), StandardCharsets.UTF_8), is(expected.toString()));
+    }
+
+    /**
+     * Writer counting the chars and keeping the largest write.
+     */
+    private static final class CountingWriter extends Writer {
+
+        private long count;
+        private long writes;
+        private int max;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            count += len;
+            writes++;
+            max = Math.max(max, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
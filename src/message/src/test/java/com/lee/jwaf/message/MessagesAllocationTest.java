@@ -0,0 +1,113 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : MessagesAllocationTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lee.jwaf.context.ActionContext;
+
+/**
+ * ClassName : MessagesAllocationTest <br>
+ * Description : Regression test of the bytes allocated per lookup, measured by the thread allocation counter <br>
+ * The budgets leave room over the measured values (0 bytes for the append and no-argument paths, about 170 bytes for
+ * a plain message and 1.9 KB for a typed sub-format on JDK 8), they catch a new object per call, not a few bytes. The
+ * test passes without checking if the JVM can't count allocations. <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class MessagesAllocationTest {
+
+    private static final int CALLS = 100000;
+    private static final int ROUNDS = 5;
+
+    private final Object[] plainArgs = {"jimmy"};
+    private final Object[] typedArgs = {"jimmy", new Date()};
+    private final StringBuilder builder = new StringBuilder(256);
+
+    @Before
+    public void init() {
+        ActionContext.setContext(null);
+        Msg.setBaseNames("other", "test");
+    }
+
+    @After
+    public void clear() {
+        Msg.setBaseNames();
+    }
+
+    @Test
+    public void testAppendAllocatesNothing() {
+        assertBudget(8, () -> {
+            builder.setLength(0);
+            Msg.append(builder, "test.msg", plainArgs);
+        });
+        assertThat(builder.toString(), is("shadowed jimmy"));
+    }
+
+    @Test
+    public void testAccessorWithoutArgumentsAllocatesNothing() {
+        final MessageAccessor accessor = Msg.bundle("other", Locale.US);
+        assertBudget(8, () -> accessor.msg("other.msg"));
+        final LocaleContext.Scope scope = LocaleContext.of(Locale.US).open();
+        try {
+            assertBudget(8, () -> Msg.msg("other.msg"));
+        } finally {
+            scope.close();
+        }
+    }
+
+    @Test
+    public void testMsgBudgets() {
+        assertBudget(256, () -> Msg.msg("test.msg", plainArgs));
+        assertBudget(256, () -> Msg.msg("test.msg", "jimmy"));
+        assertBudget(256, () -> Msg.msg("test.msg", 1234567L));
+        assertBudget(256, () -> Msg.msg("other", "test.msg", plainArgs, Locale.US));
+        assertBudget(4096, () -> Msg.msg("test", "test.msg", typedArgs, Locale.US));
+    }
+
+    /**
+     * Description : run the call until its allocation is stable, then check the bytes per call of the best round <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param budget the maximum bytes per call
+     * @param call   the call
+     */
+    private static void assertBudget(long budget, Runnable call) {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        final com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        counter.setThreadAllocatedMemoryEnabled(true);
+        final long id = Thread.currentThread().getId();
+        long best = Long.MAX_VALUE;
+        // the first rounds run interpreted, the best one is the compiled code
+        for (int round = 0; round < ROUNDS; round++) {
+            final long start = counter.getThreadAllocatedBytes(id);
+            for (int i = 0; i < CALLS; i++) {
+                call.run();
+            }
+            best = Math.min(best, (counter.getThreadAllocatedBytes(id) - start) / CALLS);
+        }
+        assertThat("bytes per call " + best + " over " + budget, best <= budget, is(true));
+    }
+}
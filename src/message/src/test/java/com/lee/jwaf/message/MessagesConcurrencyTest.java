@@ -0,0 +1,235 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : MessagesConcurrencyTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lee.jwaf.context.ActionContext;
+
+/**
+ * ClassName : MessagesConcurrencyTest <br>
+ * Description : Stress test for Messages under concurrent access <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class MessagesConcurrencyTest {
+
+    private static final String EN = "hello {0} the time is {1,time,H-m-s}";
+    private static final String ZH = "{0} 你好，现在时间是 {1,time,H-m-s}";
+    private static final int THREADS = 32;
+    private static final int LOCALES = 200;
+
+    /** Makes every run touch locales that have never been loaded before. */
+    private static final AtomicInteger RUN = new AtomicInteger();
+
+    @Before
+    public void init() {
+        System.getProperties().remove(Messages.CNS_KEY_COUNTRY);
+        System.getProperties().remove(Messages.CNS_KEY_BASE_NAME);
+        System.getProperties().remove(Messages.CNS_KEY_LANGUAGE);
+        ActionContext.setContext(null);
+        Locale.setDefault(Locale.US);
+    }
+
+    @Test
+    public void testConcurrentFirstLoad() throws Exception {
+        final int run = RUN.incrementAndGet();
+        final List<Locale> locales = new ArrayList<>();
+        for (int i = 0; i < LOCALES; i++) {
+            locales.add(new Locale(i % 2 == 0 ? "zh" : "xx", i % 2 == 0 ? "CN" : "YY", "v" + run + "x" + i));
+        }
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int offset = t;
+                futures.add(pool.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        start.await();
+                        int checked = 0;
+                        for (int i = 0; i < LOCALES; i++) {
+                            // every thread walks the locales from a different start, so first loads collide
+                            final Locale locale = locales.get((i + offset) % LOCALES);
+                            final String expected = "zh".equals(locale.getLanguage()) ? ZH : EN;
+                            assertThat(Msg.msg("test", "test.msg", null, locale), is(expected));
+                            try {
+                                Msg.msg("test", "no.such.code", null, locale);
+                                throw new AssertionError("no.such.code should not be found");
+                            } catch (NoSuchMessageException ex) {
+                                checked++;
+                            }
+                        }
+                        return checked;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(1, TimeUnit.MINUTES), is(LOCALES));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentFirstLoadOfBundles() throws Exception {
+        final int run = RUN.incrementAndGet();
+        final String[] names = {"test", "other"};
+        final List<BundleKey> keys = new ArrayList<>();
+        for (int i = 0; i < LOCALES; i++) {
+            keys.add(new BundleKey(names[i % 2], new Locale("yy", "ZZ", "v" + run + "x" + i)));
+        }
+        final Object[] args = {"jimmy"};
+        final String other = Msg.msg("other", "test.msg", args, Locale.ROOT);
+        final String test = Msg.msg("test", "test.msg", args, Locale.US);
+        race(t -> {
+            for (int i = 0; i < LOCALES; i++) {
+                final BundleKey key = keys.get((i * 7 + t) % LOCALES);
+                final MessageBundle bundle = Msg.getBundle(key.getBaseName(), key.getLocale());
+                // equivalent locales share one bundle, loaded once whoever came first
+                assertThat(Msg.getBundle(key.getBaseName(), key.getLocale()) == bundle, is(true));
+                assertThat(Msg.msg(key.getBaseName(), "test.msg", args, key.getLocale()),
+                    is("other".equals(key.getBaseName()) ? other : test));
+            }
+        });
+    }
+
+    @Test
+    public void testMixedHitsAndMisses() throws Exception {
+        Msg.setBaseNames("other", "test");
+        final AtomicInteger misses = new AtomicInteger();
+        race(t -> {
+            final Locale locale = t % 2 == 0 ? Locale.US : new Locale("zh", "CN");
+            ActionContext ctx = new ActionContext();
+            ctx.setLocale(locale);
+            ActionContext.setContext(ctx);
+            for (int i = 0; i < 2000; i++) {
+                switch (i % 4) {
+                    case 0:
+                        // shadowed by the first base name
+                        assertThat(Msg.msg("test.msg", new Object[] {"jimmy"}), is("shadowed jimmy"));
+                        break;
+                    case 1:
+                        assertThat(Msg.msg("test", "test.msg", null, locale),
+                            is(t % 2 == 0 ? EN : ZH));
+                        break;
+                    case 2:
+                        assertThat(Msg.msg("other", "no.such.code", null, "default", locale), is("default"));
+                        break;
+                    default:
+                        try {
+                            Msg.msg("no.such.code", null);
+                            throw new AssertionError("no.such.code should not be found");
+                        } catch (NoSuchMessageException ex) {
+                            misses.incrementAndGet();
+                        }
+                }
+            }
+            ActionContext.setContext(null);
+        });
+        assertThat(misses.get(), is(THREADS * 500));
+        Msg.setBaseNames();
+    }
+
+    @Test
+    public void testLocaleSwitchingUnderLoad() throws Exception {
+        Msg.setBaseNames("test");
+        final Locale[] locales = {Locale.US, new Locale("zh", "CN"), Locale.forLanguageTag("zh-Hans-CN")};
+        final String[] expected = {EN, ZH, ZH};
+        final AtomicInteger done = new AtomicInteger();
+        // drops all the bundles and indexes again and again while they are used
+        final Thread dropper = new Thread(() -> {
+            boolean catalogs = false;
+            while (done.get() < THREADS) {
+                catalogs = !catalogs;
+                Msg.setCatalogs(catalogs);
+                Thread.yield();
+            }
+        });
+        dropper.start();
+        try {
+            race(t -> {
+                try {
+                    for (int i = 0; i < 3000; i++) {
+                        final int l = (i + t) % locales.length;
+                        final LocaleContext.Scope scope = LocaleContext.of(locales[l]).open();
+                        try {
+                            assertThat(Msg.msg("test.msg"), is(expected[l]));
+                        } finally {
+                            scope.close();
+                        }
+                    }
+                } finally {
+                    done.incrementAndGet();
+                }
+            });
+        } finally {
+            done.set(THREADS);
+            dropper.join();
+            Msg.setCatalogs(false);
+            Msg.setBaseNames();
+        }
+    }
+
+    /**
+     * Description : run the task on all the threads, released at the same time <br>
+     * Create Time: 2026-10-17 <br>
+     * Create by : jimmyblylee@126.com <br>
+     *
+     * @param task the task, given the index of its thread
+     * @throws Exception if a task failed
+     */
+    private static void race(Task task) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Task of one racing thread.
+     */
+    private interface Task {
+        void run(int thread) throws Exception;
+    }
+}
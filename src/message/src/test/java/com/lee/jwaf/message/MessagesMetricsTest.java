@@ -0,0 +1,139 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : MessagesMetricsTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ClassName : MessagesMetricsTest <br>
+ * Description : Unit test for the metrics of Messages and their MXBean <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class MessagesMetricsTest {
+
+    /** Shares the bundle of its canonical locale zh_CN. */
+    private final Locale locale = new Locale("zh", "CN", "metrics");
+    private final MessagesMXBean metrics = Msg.getMetrics();
+
+    @Before
+    public void init() {
+        metrics.setEnabled(true);
+        metrics.reset();
+    }
+
+    @After
+    public void clear() {
+        metrics.setEnabled(false);
+        metrics.reset();
+    }
+
+    @Test
+    public void testCounts() throws Exception {
+        // drops the bundles loaded by other tests, so the zh_CN one is loaded here
+        Msg.setCatalogs(true);
+        Msg.setCatalogs(false);
+        for (int i = 0; i < 100; i++) {
+            Msg.msg("test", "test.msg", null, locale);
+        }
+        assertThat(Msg.msg("test", "foo", null, "default", locale), is("default"));
+        try {
+            Msg.msg("test", "foo", null, locale);
+            fail();
+        } catch (NoSuchMessageException ex) {
+            assertThat(metrics.getMisses(), is(2L));
+        }
+        assertThat(metrics.getHits(), is(100L));
+        assertThat(metrics.getDefaults(), is(1L));
+        assertThat(metrics.getLoads(), is(1L));
+        long histogram = 0;
+        for (long count : metrics.getLoadLatencyHistogram().values()) {
+            histogram += count;
+        }
+        assertThat(histogram, is(1L));
+        MessageStatistics bundle = null;
+        for (MessageStatistics scope : metrics.getScopes()) {
+            if (scope.getScope().equals("test-messages[zh-CN]")) {
+                bundle = scope;
+            }
+        }
+        assertThat(bundle.getHits(), is(100L));
+        assertThat(bundle.getMisses(), is(2L));
+        assertThat(bundle.getLoads(), is(1L));
+        final Map<String, Long> missing = metrics.topMissingCodes(10);
+        assertThat(missing.size(), is(1));
+        assertThat(missing.get("foo"), is(2L));
+        assertThat(metrics.topHotCodes(10).size() <= 1, is(true));
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(MessagesMXBean.OBJECT_NAME);
+        assertThat(server.getAttribute(name, "Hits"), is((Object) 100L));
+        assertThat(server.getAttribute(name, "Enabled"), is((Object) true));
+
+        metrics.setEnabled(false);
+        Msg.msg("test", "test.msg", null, locale);
+        Msg.msg("test", "foo", null, "default", locale);
+        assertThat(metrics.getHits(), is(100L));
+        assertThat(metrics.getMisses(), is(2L));
+        assertThat(server.isRegistered(name), is(false));
+    }
+
+    @Test
+    public void testStaleRegistration() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(MessagesMXBean.OBJECT_NAME);
+        metrics.setEnabled(false);
+        // left by an undeployed application
+        server.registerMBean(new MessageMetrics(false), name);
+        assertThat(server.getAttribute(name, "Enabled"), is((Object) false));
+        metrics.setEnabled(true);
+        assertThat(server.getAttribute(name, "Enabled"), is((Object) true));
+        Msg.unregisterMetrics();
+        assertThat(server.isRegistered(name), is(false));
+    }
+
+    @Test
+    public void testIndexScope() {
+        Msg.setBaseNames("other", "test");
+        Msg.setLocaleResolver(new LocaleResolver() {
+            @Override
+            public Locale resolve() {
+                return Locale.US;
+            }
+        });
+        try {
+            Msg.msg("test.msg", new Object[] {"jimmy"});
+            Msg.forLocale(Locale.US).msg("other.msg");
+            MessageStatistics index = null;
+            for (MessageStatistics scope : metrics.getScopes()) {
+                if (scope.getScope().equals("other,test[en-US]")) {
+                    index = scope;
+                }
+            }
+            assertThat(index.getHits(), is(2L));
+        } finally {
+            Msg.setLocaleResolver(null);
+            Msg.setBaseNames();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Project Name : jwaf-message <br>
+ * File Name : MessagesReloadTest.java <br>
+ * Package Name : com.lee.jwaf.message <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com <br>
+ * Copyright © 2006, 2016, Jimmybly Lee. All rights reserved.
+ */
+package com.lee.jwaf.message;
+
+import static com.lee.jwaf.message.Messages.Msg;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ClassName : MessagesReloadTest <br>
+ * Description : Unit test for reloading changed bundle files <br>
+ * Create Time : 2026-10-17 <br>
+ * Create by : jimmyblylee@126.com
+ */
+public class MessagesReloadTest {
+
+    private Path file;
+    private Path catalog;
+    private Path packaged;
+
+    @Before
+    public void init() throws Exception {
+        // the directory of the test resources is on the class path
+        final Path directory = Paths.get(getClass().getResource("/test-messages.properties").toURI()).getParent();
+        file = directory.resolve("reload-messages.properties");
+        catalog = directory.resolve("reload-messages." + MessageCatalog.EXTENSION);
+        packaged = directory.resolve("jwaf").resolve("reload");
+        write("reload.msg=first {0}");
+    }
+
+    @After
+    public void clear() throws IOException {
+        Msg.setReloadable(false);
+        Msg.setCatalogs(false);
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(catalog);
+        Files.deleteIfExists(packaged.resolve("pkg-messages.properties"));
+        Files.deleteIfExists(packaged);
+        Files.deleteIfExists(packaged.getParent());
+    }
+
+    @Test
+    public void testReload() throws Exception {
+        assertThat(Msg.msg("reload", "reload.msg", new Object[] {"jimmy"}, Locale.US), is("first jimmy"));
+        final MessageAccessor accessor = Msg.bundle("reload", Locale.US);
+        Msg.setReloadable(true);
+        write("reload.msg=second {0}");
+        final long deadline = System.currentTimeMillis() + 30000L;
+        String result = Msg.msg("reload", "reload.msg", new Object[] {"jimmy"}, Locale.US);
+        while (!"second jimmy".equals(result) && System.currentTimeMillis() < deadline) {
+            assertThat(result, is("first jimmy"));
+            Thread.sleep(50L);
+            result = Msg.msg("reload", "reload.msg", new Object[] {"jimmy"}, Locale.US);
+        }
+        assertThat(result, is("second jimmy"));
+        assertThat(accessor.msg("reload.msg", new Object[] {"jimmy"}), is("second jimmy"));
+    }
+
+    @Test
+    public void testReloadPackaged() throws Exception {
+        final Path packagedFile = Files.createDirectories(packaged).resolve("pkg-messages.properties");
+        Files.write(packagedFile, "pkg.msg=first {0}".getBytes(StandardCharsets.ISO_8859_1));
+        // the file name alone is pkg-messages, the base name is reported
+        assertThat(Msg.msg("jwaf.reload.pkg", "pkg.msg", new Object[] {"jimmy"}, Locale.US), is("first jimmy"));
+        Msg.setReloadable(true);
+        Files.write(packagedFile, "pkg.msg=second {0}".getBytes(StandardCharsets.ISO_8859_1));
+        final long deadline = System.currentTimeMillis() + 30000L;
+        String result = Msg.msg("jwaf.reload.pkg", "pkg.msg", new Object[] {"jimmy"}, Locale.US);
+        while (!"second jimmy".equals(result) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            result = Msg.msg("jwaf.reload.pkg", "pkg.msg", new Object[] {"jimmy"}, Locale.US);
+        }
+        assertThat(result, is("second jimmy"));
+    }
+
+    @Test
+    public void testFailedReload() throws Exception {
+        Msg.setCatalogs(true);
+        assertThat(Msg.msg("reload", "reload.msg", new Object[] {"jimmy"}, Locale.US), is("first jimmy"));
+        Msg.setReloadable(true);
+        final int generation = Msg.getGeneration();
+        // not a catalog, its reload fails on the watching thread
+        Files.write(catalog, "corrupted".getBytes(StandardCharsets.ISO_8859_1));
+        Thread.sleep(1000L);
+        assertThat(Msg.msg("reload", "reload.msg", new Object[] {"jimmy"}, Locale.US), is("first jimmy"));
+        // the merged indexes are dropped even so
+        assertThat(Msg.getGeneration() > generation, is(true));
+        Files.delete(catalog);
+        write("reload.msg=second {0}");
+        final long deadline = System.currentTimeMillis() + 30000L;
+        String result = Msg.msg("reload", "reload.msg", new Object[] {"jimmy"}, Locale.US);
+        while (!"second jimmy".equals(result) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            result = Msg.msg("reload", "reload.msg", new Object[] {"jimmy"}, Locale.US);
+        }
+        assertThat(result, is("second jimmy"));
+    }
+
+    private void write(String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
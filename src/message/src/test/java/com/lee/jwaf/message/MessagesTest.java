@@ -10,13 +10,25 @@ package com.lee.jwaf.message;
 
 import static com.lee.jwaf.message.Messages.Msg;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.junit.Before;
@@ -39,6 +51,7 @@ public class MessagesTest {
         System.getProperties().remove(Messages.CNS_KEY_BASE_NAME);
         System.getProperties().remove(Messages.CNS_KEY_LANGUAGE);
         ActionContext.setContext(null);
+        Msg.setLocaleResolver(null);
     }
 
     @Test
@@ -55,6 +68,23 @@ public class MessagesTest {
         }
     }
 
+    @Test
+    public void testGetLocaleByResolver() {
+        Msg.setLocaleResolver(new LocaleResolver() {
+            @Override
+            public Locale resolve() {
+                return Locale.JAPAN;
+            }
+        });
+        assertThat(Messages.getLocale().toLanguageTag(), is("ja-JP"));
+        ActionContext ctx = new ActionContext();
+        ctx.setLocale(new Locale("zh", "CN"));
+        ActionContext.setContext(ctx);
+        assertThat(Messages.getLocale().toLanguageTag(), is("ja-JP"));
+        Msg.setLocaleResolver(null);
+        assertThat(Messages.getLocale().toLanguageTag(), is("zh-CN"));
+    }
+
     @Test
     public void testGetLocaleBySystemProperties() {
         System.setProperty(Messages.CNS_KEY_LANGUAGE, "zh");
@@ -68,6 +98,20 @@ public class MessagesTest {
         assertThat(Messages.getLocale().toLanguageTag(), is("de-DE"));
     }
 
+    @Test
+    public void testGetBaseNames() {
+        assertThat(Messages.getBaseNames().length, is(0));
+        System.setProperty(Messages.CNS_KEY_BASE_NAME, " b, a ,b,,c");
+        final String[] names = Messages.getBaseNames();
+        assertThat(Arrays.asList(names), is(Arrays.asList("b", "a", "c")));
+        assertThat(Messages.getBaseNames(), sameInstance(names));
+        Msg.setBaseNames("test", "other");
+        assertThat(System.getProperty(Messages.CNS_KEY_BASE_NAME), is("test,other"));
+        assertThat(Arrays.asList(Messages.getBaseNames()), is(Arrays.asList("test", "other")));
+        Msg.setBaseNames();
+        assertThat(Messages.getBaseNames().length, is(0));
+    }
+
     @Test
     public void testMsg1Param() {
         /*********
@@ -189,6 +233,251 @@ public class MessagesTest {
                 is("hello jimmy the time is " + MessageFormat.format("{0,time,H-m-s}", d)));
     }
 
+    @Test
+    public void testMsgAcrossBundles() {
+        ActionContext ctx = new ActionContext();
+        ctx.setLocale(new Locale("en", "US"));
+        ActionContext.setContext(ctx);
+        Msg.setBaseNames("test", "other");
+        assertThat(Msg.msg("test.msg"), is("hello {0} the time is {1,time,H-m-s}"));
+        assertThat(Msg.msg("other.msg"), is("other message"));
+        Msg.setBaseNames("other", "test");
+        assertThat(Msg.msg("test.msg", new Object[] { "jimmy" }), is("shadowed jimmy"));
+        try {
+            Msg.msg("foo");
+            fail();
+        } catch (NoSuchMessageException ex) {
+            assertThat(ex.getMessage(), is("No message found under code 'foo' for locale 'en_US'."));
+            assertThat(ex.getMessage(), sameInstance(ex.getMessage()));
+            assertThat(ex.getStackTrace().length, is(0));
+        }
+    }
+
+    @Test
+    public void testMsgWithMissingBundle() {
+        ActionContext ctx = new ActionContext();
+        ctx.setLocale(new Locale("en", "US"));
+        ActionContext.setContext(ctx);
+        // the second base name has no bundle, the codes of the first one are still found
+        Msg.setBaseNames("test", "missing");
+        assertThat(Msg.msg("test.msg"), is("hello {0} the time is {1,time,H-m-s}"));
+        assertThat(Msg.forLocale(Locale.US).msg("test.msg", new Object[] {"jimmy", null}).startsWith("hello jimmy"),
+            is(true));
+        try {
+            Msg.msg("other.msg");
+            fail();
+        } catch (NoSuchMessageException ex) {
+            assertThat(ex.getCode(), is("other.msg"));
+        }
+        Msg.setBaseNames("missing");
+        try {
+            Msg.msg("test.msg");
+            fail();
+        } catch (MissingResourceException ex) {
+            assertThat(ex.getClassName(), is("missing-messages_en_US"));
+        }
+    }
+
+    @Test
+    public void testAppend() throws IOException {
+        Date d = new Date();
+        Msg.setBaseNames("other", "test");
+        Msg.setLocaleResolver(new LocaleResolver() {
+            @Override
+            public Locale resolve() {
+                return Locale.US;
+            }
+        });
+        StringBuilder builder = new StringBuilder("[");
+        Msg.append(builder, "test.msg", new Object[] { "jimmy" }).append("] [");
+        Msg.append(builder, "other.msg", null).append("] [");
+        Msg.append(builder, "test", "test.msg", new Object[] { "jimmy", d }, new Locale("zh", "CN")).append(']');
+        assertThat(builder.toString(), is("[shadowed jimmy] [other message] [" + Msg.msg("test", "test.msg",
+            new Object[] { "jimmy", d }, new Locale("zh", "CN")) + "]"));
+
+        CharBuffer buffer = CharBuffer.allocate(64);
+        Msg.append(buffer, "test.msg", new Object[] { "jimmy" });
+        buffer.flip();
+        assertThat(buffer.toString(), is("shadowed jimmy"));
+
+        StringWriter writer = new StringWriter();
+        Msg.append((Appendable) writer, "other", "other.msg", null, Locale.US);
+        assertThat(writer.toString(), is("other message"));
+        try {
+            Msg.append(new StringBuilder(), "foo", null);
+            fail();
+        } catch (NoSuchMessageException ex) {
+            assertThat(ex.getMessage(), is("No message found under code 'foo' for locale 'en_US'."));
+        }
+    }
+
+    @Test
+    public void testMsgAll() {
+        ActionContext ctx = new ActionContext();
+        ctx.setLocale(new Locale("en", "US"));
+        ActionContext.setContext(ctx);
+        Msg.setBaseNames("other", "test");
+        String[] messages = Msg.msgAll(new String[] { "test.msg", "other.msg", "test.msg" },
+            new Object[][] { { "jimmy" }, null, { "lee" } });
+        assertThat(Arrays.asList(messages), is(Arrays.asList("shadowed jimmy", "other message", "shadowed lee")));
+        assertThat(Msg.msgAll(new String[] { "other.msg" }, null)[0], is("other message"));
+
+        Map<String, Object[]> codes = new LinkedHashMap<>();
+        codes.put("test.msg", new Object[] { "jimmy" });
+        codes.put("other.msg", null);
+        Map<String, String> result = Msg.msgAll(codes);
+        assertThat(new ArrayList<>(result.keySet()), is(Arrays.asList("test.msg", "other.msg")));
+        assertThat(result.get("test.msg"), is("shadowed jimmy"));
+        assertThat(result.get("other.msg"), is("other message"));
+
+        codes.put("foo", null);
+        try {
+            Msg.msgAll(codes);
+            fail();
+        } catch (NoSuchMessageException ex) {
+            assertThat(ex.getMessage(), is("No message found under code 'foo' for locale 'en_US'."));
+        }
+        try {
+            Msg.msgAll(new String[] { "test.msg" }, new Object[2][]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("illegal argument for msgAll, 2 arguments for 1 codes"));
+        }
+    }
+
+    @Test
+    public void testAccessor() {
+        Date d = new Date();
+        Locale zh = new Locale("zh", "CN");
+        MessageAccessor bundle = Msg.bundle("test", zh);
+        assertThat(bundle.getLocale(), is(zh));
+        assertThat(bundle.msg("test.msg", new Object[] { "jimmy", d }),
+            is(Msg.msg("test", "test.msg", new Object[] { "jimmy", d }, zh)));
+        assertThat(bundle.msg("test.msg"), is("{0} 你好，现在时间是 {1,time,H-m-s}"));
+        assertThat(bundle.msg("foo", new Object[] { "jimmy" }, "default {0}"), is("default jimmy"));
+        assertThat(bundle.contains("test.msg"), is(true));
+        assertThat(bundle.contains("other.msg"), is(false));
+
+        Msg.setBaseNames("other", "test");
+        MessageAccessor all = Msg.forLocale(Locale.US);
+        Msg.setBaseNames("test");
+        // bound to the base names configured when it was created
+        assertThat(all.msg("test.msg", new Object[] { "jimmy" }), is("shadowed jimmy"));
+        assertThat(all.append(new StringBuilder(), "other.msg", null).toString(), is("other message"));
+        try {
+            all.msg("foo");
+            fail();
+        } catch (NoSuchMessageException ex) {
+            assertThat(ex.getMessage(), is("No message found under code 'foo' for locale 'en_US'."));
+        }
+        try {
+            Msg.bundle("nosuch", Locale.US);
+            fail();
+        } catch (MissingResourceException ex) {
+            assertThat(ex.getClassName(), is("nosuch-messages_en_US"));
+        }
+    }
+
+    @Test
+    public void testArityOverloads() {
+        ActionContext ctx = new ActionContext();
+        ctx.setLocale(new Locale("en", "US"));
+        ActionContext.setContext(ctx);
+        Msg.setBaseNames("other", "test");
+        Date d = new Date();
+        assertThat(Msg.msg("test.msg", "jimmy"), is("shadowed jimmy"));
+        assertThat(Msg.msg("test.msg", (Object) null), is("shadowed null"));
+        assertThat(Msg.msg("test.msg", "jimmy", d), is(Msg.msg("test.msg", new Object[] { "jimmy", d })));
+        assertThat(Msg.msg("test.msg", 1, 2, 3), is(Msg.msg("test.msg", new Object[] { 1, 2, 3 })));
+        assertThat(Msg.msg("test.msg", 1, 2, 3, 4), is(Msg.msg("test.msg", new Object[] { 1, 2, 3, 4 })));
+        assertThat(Msg.msg("test.msg", 1234567), is(Msg.msg("test.msg", new Object[] { 1234567 })));
+        assertThat(Msg.msg("test.msg", Long.MIN_VALUE), is(Msg.msg("test.msg", new Object[] { Long.MIN_VALUE })));
+        assertThat(Msg.msg("other.msg", 42), is("other message"));
+        // a char is formated as a character, not widened to a number
+        assertThat(Msg.msg("test.msg", 'x'), is("shadowed x"));
+        assertThat(Msg.msg("test.msg", Character.valueOf('x')), is("shadowed x"));
+        try {
+            Msg.msg("foo", "jimmy");
+            fail();
+        } catch (NoSuchMessageException ex) {
+            assertThat(ex.getMessage(), is("No message found under code 'foo' for locale 'en_US'."));
+        }
+        Msg.setBaseNames();
+
+        MessageAccessor bundle = Msg.bundle("test", Locale.US);
+        assertThat(bundle.msg("test.msg", "jimmy", d), is(bundle.msg("test.msg", new Object[] { "jimmy", d })));
+        assertThat(bundle.msg("test.msg", "jimmy", d, 3), is(bundle.msg("test.msg", new Object[] { "jimmy", d, 3 })));
+        assertThat(bundle.msg("test.msg", -42L), is(bundle.msg("test.msg", new Object[] { -42L })));
+        assertThat(Msg.bundle("other", Locale.US).msg("test.msg", 'x'), is("shadowed x"));
+        assertThat(Msg.bundle("other", Locale.US).msg("test.msg", 1, "b", 3, "d"), is("shadowed 1"));
+    }
+
+    @Test
+    public void testMsgForLocales() {
+        Date d = new Date();
+        Object[] args = new Object[] { "jimmy", d };
+        List<Locale> locales = new ArrayList<>(Arrays.asList(Locale.getAvailableLocales()).subList(0, 40));
+        locales.add(0, new Locale("zh", "CN"));
+        locales.add(Locale.US);
+        locales.add(Locale.US);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            for (Map<Locale, String> result : Arrays.asList(Msg.msgForLocales("test", "test.msg", args, locales),
+                Msg.msgForLocales(pool, "test", "test.msg", args, locales))) {
+                assertThat(new ArrayList<>(result.keySet()), is(new ArrayList<>(new LinkedHashSet<>(locales))));
+                for (Map.Entry<Locale, String> message : result.entrySet()) {
+                    assertThat(message.getValue(), is(Msg.msg("test", "test.msg", args, message.getKey())));
+                }
+            }
+            assertThat(Msg.msgForLocales(pool, "test", "test.msg", null, Arrays.asList(Locale.US)).get(Locale.US),
+                is("hello {0} the time is {1,time,H-m-s}"));
+            try {
+                Msg.msgForLocales(pool, "test", "foo", null, locales);
+                fail();
+            } catch (NoSuchMessageException ex) {
+                assertThat(ex.getMessage().startsWith("No message found under code 'foo'"), is(true));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCanonicalLocale() {
+        MessageBundle zh = Msg.getBundle("test", new Locale("zh", "CN"));
+        for (Locale variant : new Locale[] {Locale.forLanguageTag("zh-Hans-CN"), Locale.forLanguageTag("zh-CN-x-app"),
+            new Locale("zh", "CN", "POSIX")}) {
+            assertThat(Msg.getBundle("test", variant), sameInstance(zh));
+            assertThat(Msg.msg("test", "test.msg", null, variant), is("{0} 你好，现在时间是 {1,time,H-m-s}"));
+        }
+        assertThat(zh.getKey().getLocale(), is(new Locale("zh", "CN")));
+        // an unknown language loads the same files as the default locale
+        assertThat(Msg.getBundle("test", new Locale("xx", "YY")).getStore(),
+            sameInstance(Msg.getBundle("test", Locale.getDefault()).getStore()));
+        // a locale of its own is not collapsed
+        assertThat(Msg.getBundle("test", Locale.US).getKey().getLocale(), is(Locale.US));
+        assertThat(LocaleChain.of(Locale.US), sameInstance(LocaleChain.of(Locale.US)));
+    }
+
+    @Test
+    public void testPreload() {
+        Msg.setBaseNames("test", "other");
+        PreloadReport report = Msg.preload(Arrays.asList(Locale.US, Locale.CHINA, Locale.US), true);
+        assertThat(report.getLocales(), is(2));
+        assertThat(report.getBundles(), is(4));
+        assertThat(report.getEntries(), is(6L));
+        assertThat(report.getTemplates(), is(10L));
+        assertThat(report.getFailures().isEmpty(), is(true));
+        assertThat(Msg.msg("test", "test.msg", null, Locale.CHINA), is("{0} 你好，现在时间是 {1,time,H-m-s}"));
+
+        Msg.setBaseNames("test", "nosuch");
+        report = Msg.preload(Arrays.asList(Locale.US), false);
+        assertThat(report.getBundles(), is(1));
+        assertThat(report.getTemplates(), is(0L));
+        assertThat(report.getFailures().size(), is(1));
+        assertThat(report.getFailures().get(0).startsWith("nosuch-messages[en-US]"), is(true));
+    }
+
     @Test
     public void testMsg4Params() {
         Date d = new Date();